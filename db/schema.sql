@@ -22,5 +22,41 @@ CREATE TABLE contestant (
     KEY idx_category (category)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 매치 결과 테이블 (대결마다 한 행, 앱에서 일괄 INSERT)
+CREATE TABLE match_result (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    category VARCHAR(50) NOT NULL,
+    winner_id BIGINT NOT NULL,
+    loser_id BIGINT NOT NULL,
+    round_size INT NOT NULL,
+    played_at TIMESTAMP(3) NOT NULL,
+    KEY idx_match_category (category, played_at),
+    KEY idx_match_winner (winner_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 저널에서 DB로 보낸 세그먼트 (MatchJournalReplayer가 결과와 같은 트랜잭션에 기록해 중복 전송을 막음)
+CREATE TABLE match_journal_segment (
+    journal_id CHAR(36) NOT NULL,
+    segment_seq BIGINT NOT NULL,
+    record_count INT NOT NULL,
+    shipped_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (journal_id, segment_seq)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 참가자 이미지 BLOB 테이블 (ImageImporter로 적재, ImageExporter로 추출)
+CREATE TABLE contestant_blob (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    name VARCHAR(120) NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    image_type VARCHAR(50) NOT NULL,
+    image_data LONGBLOB NOT NULL,
+    sha256 CHAR(64) AS (SHA2(image_data, 256)) STORED,  -- 증분 동기화용 내용 해시 (image_data가 바뀌면 서버가 다시 계산)
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY uq_blob_name_category (name, category),
+    KEY idx_blob_category (category)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 SHOW TABLES;
-DESCRIBE contestant;
\ No newline at end of file
+DESCRIBE contestant;
+DESCRIBE match_result;
+DESCRIBE contestant_blob;
\ No newline at end of file
@@ -1,15 +1,27 @@
 package com.whatsyourpick;
 
+import com.whatsyourpick.database.AsyncDatabaseManager;
+import com.whatsyourpick.database.DatabaseConfig;
 import com.whatsyourpick.database.DatabaseManager;
-import com.whatsyourpick.database.JdbcManager;
+import com.whatsyourpick.database.ExecutorAsyncDatabaseManager;
+import com.whatsyourpick.game.PopularityLeaderboard;
+import com.whatsyourpick.game.ArrayTournamentManager;
+import com.whatsyourpick.game.TournamentEngine;
 import com.whatsyourpick.game.TournamentManager;
 import com.whatsyourpick.model.Category;
 import com.whatsyourpick.model.Contestant;
 import com.whatsyourpick.ui.*;
+import com.whatsyourpick.util.ImageCache;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 이상형 월드컵 메인 애플리케이션 클래스
@@ -20,13 +32,17 @@ public class Main extends JFrame {
     private JPanel mainPanel;
 
     private DatabaseManager databaseManager;
-    private TournamentManager tournamentManager;
+    private AsyncDatabaseManager asyncDatabaseManager;   // EDT를 막지 않도록 DB 작업은 모두 비동기로 실행
+    private TournamentEngine tournamentManager;
+    private PopularityLeaderboard leaderboard;           // 카테고리별 인기 순위 (매치마다 갱신)
+    private boolean saveFailureShown;                    // 매치 결과 저장 실패 안내는 한 번만 표시 (EDT 전용)
 
     private StartPanel startPanel;
     private CategoryPanel categoryPanel;
     private TournamentSetupPanel tournamentSetupPanel;
     private BattlePanel battlePanel;
     private ResultPanel resultPanel;
+    private LoadingPanel loadingPanel;
 
     private Category selectedCategory;
 
@@ -34,12 +50,29 @@ public class Main extends JFrame {
         // 폰트 초기화
         FontManager.initialize();
 
-        // 데이터베이스 매니저 초기화 (나중에 실제 DB로 교체)
-        databaseManager = new JdbcManager();
-        databaseManager.initialize();
-
-        // 토너먼트 매니저 초기화
-        tournamentManager = new TournamentManager();
+        // 데이터베이스 매니저 초기화 (-Dwyp.db.backend=mysql|snapshot 으로 선택)
+        databaseManager = DatabaseConfig.fromSystemProperties().createDatabaseManager();
+        asyncDatabaseManager = new ExecutorAsyncDatabaseManager(databaseManager);
+
+        // 인기 순위는 저장된 매치 결과로 한 번 채운 뒤 이후 매치마다 갱신
+        leaderboard = new PopularityLeaderboard();
+        asyncDatabaseManager.initialize()
+                .thenRun(() -> databaseManager.replayMatchResults(leaderboard::record));
+
+        // 토너먼트 매니저 초기화 (-Dwyp.game.engine=array 이면 배열 기반 엔진)
+        tournamentManager = "array".equalsIgnoreCase(System.getProperty("wyp.game.engine"))
+                ? new ArrayTournamentManager()
+                : new TournamentManager();
+        // 저장 큐가 가득 찼을 때의 대기는 작업 스레드에서 하고, 저장하지 못하면 EDT에서 알림
+        tournamentManager.setMatchResultListener(result -> {
+            asyncDatabaseManager.recordMatchResult(result)
+                    .thenAcceptAsync(saved -> {
+                        if (!saved) {
+                            showSaveFailure();
+                        }
+                    }, SwingUtilities::invokeLater);
+            leaderboard.record(result);
+        });
 
         // UI 초기화
         initializeUI();
@@ -55,7 +88,13 @@ public class Main extends JFrame {
         addWindowListener(new java.awt.event.WindowAdapter() {
             @Override
             public void windowClosing(java.awt.event.WindowEvent windowEvent) {
-                databaseManager.close();
+                // 저장 대기 중인 매치 결과를 모두 기록할 때까지 대기
+                try {
+                    asyncDatabaseManager.close().get(12, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    System.err.println("❌ 데이터베이스 종료 대기 중 오류: " + e.getMessage());
+                }
+                System.out.println("🖼️  이미지 캐시 통계: " + ImageCache.shared().getStats());
             }
         });
     }
@@ -71,6 +110,7 @@ public class Main extends JFrame {
         tournamentSetupPanel = new TournamentSetupPanel();
         battlePanel = new BattlePanel();
         resultPanel = new ResultPanel();
+        loadingPanel = new LoadingPanel();
 
         // 패널을 CardLayout에 추가
         mainPanel.add(startPanel, "START");
@@ -78,6 +118,7 @@ public class Main extends JFrame {
         mainPanel.add(tournamentSetupPanel, "SETUP");
         mainPanel.add(battlePanel, "BATTLE");
         mainPanel.add(resultPanel, "RESULT");
+        mainPanel.add(loadingPanel, "LOADING");
 
         // 이벤트 리스너 설정
         setupEventListeners();
@@ -104,6 +145,11 @@ public class Main extends JFrame {
 
         // 대결 승자 선택 리스너
         battlePanel.setWinnerSelectListener(winner -> {
+            // 빠르게 두 번 클릭하면 이미 끝난 매치의 승자가 다시 들어오므로 무시
+            // (엔진은 현재 매치의 후보자가 아니면 IllegalArgumentException을 던지고, 그대로 넘기면 EDT에서 예외가 남)
+            if (winner != tournamentManager.getLeftContestant() && winner != tournamentManager.getRightContestant()) {
+                return;
+            }
             boolean continueGame = tournamentManager.selectWinner(winner);
 
             if (continueGame) {
@@ -120,21 +166,34 @@ public class Main extends JFrame {
         resultPanel.addRestartListener(e -> restartTournament());
     }
 
+    // 매치 결과를 저장하지 못했음을 알립니다. (연달아 실패해도 한 번만 표시)
+    private void showSaveFailure() {
+        if (saveFailureShown) {
+            return;
+        }
+        saveFailureShown = true;
+        JOptionPane.showMessageDialog(this, "매치 결과를 저장하지 못했습니다.\n데이터베이스 연결을 확인하세요.",
+                "경고", JOptionPane.WARNING_MESSAGE);
+    }
+
     // 카테고리 선택 화면을 표시합니다.
     private void showCategoryScreen() {
-        // 8개의 카테고리 직접 생성
-        List<Category> categories = new java.util.ArrayList<>();
-        categories.add(new Category(1L, "남자아이돌", "images/남자아이돌_표지.png"));
-        categories.add(new Category(2L, "여자아이돌", "images/여자아이돌_표지.png"));
-        categories.add(new Category(3L, "남자배우", "images/남자배우_표지.png"));
-        categories.add(new Category(4L, "여자배우", "images/여자배우_표지.png"));
-        categories.add(new Category(5L, "드라마", "images/드라마_표지.png"));
-        categories.add(new Category(6L, "애니메이션", "images/애니메이션_표지.png"));
-        categories.add(new Category(7L, "음식", "images/음식_표지.png"));
-        categories.add(new Category(8L, "여행지", "images/여행지_표지.png"));
-
-        categoryPanel.displayCategories(categories);
-        cardLayout.show(mainPanel, "CATEGORY");
+        // 카테고리 목록은 카탈로그(프리로드된 경우 I/O 없음)에서 가져와 EDT에서 표시
+        asyncDatabaseManager.getAllCategories()
+                .thenAcceptAsync(categories -> {
+                    if (categories.isEmpty()) {
+                        System.err.println("❌ 카테고리 목록이 비어 있습니다.");
+                        JOptionPane.showMessageDialog(this, "카테고리를 불러오지 못했습니다.",
+                                "오류", JOptionPane.ERROR_MESSAGE);
+                        return;
+                    }
+                    categoryPanel.displayCategories(categories);
+                    cardLayout.show(mainPanel, "CATEGORY");
+                }, SwingUtilities::invokeLater)
+                .exceptionally(error -> {
+                    System.err.println("❌ 카테고리 조회 실패: " + error.getMessage());
+                    return null;
+                });
     }
 
     // 토너먼트 시작
@@ -142,14 +201,34 @@ public class Main extends JFrame {
         int round = tournamentSetupPanel.getSelectedRound();
         Category category = tournamentSetupPanel.getSelectedCategory();
 
-        // 해당 카테고리의 후보자들을 가져옴
-        List<Contestant> contestants = databaseManager.getContestantsByCategory(category.getName());
-
-        // 토너먼트 초기화
-        tournamentManager.initializeTournament(contestants, round);
-
-        // 첫 번째 대결 화면 표시
-        showNextBattle();
+        // 조회가 끝날 때까지 로딩 화면 표시
+        loadingPanel.start(category.getName() + " 후보자를 불러오는 중...");
+        cardLayout.show(mainPanel, "LOADING");
+
+        // 토너먼트 규모만큼만 무작위로 뽑아 (전체면 카테고리 전원) 백그라운드에서 가져온 뒤 EDT에서 화면 전환
+        // 후보자가 규모보다 적으면 있는 인원으로 진행하고, 첫 라운드에 부전승이 생김
+        CompletableFuture<List<Contestant>> contestantsFuture = round == TournamentEngine.ALL_CONTESTANTS
+                ? asyncDatabaseManager.getContestantsByCategory(category.getName())
+                : asyncDatabaseManager.getRandomContestants(category.getName(), round);
+        contestantsFuture
+                .whenCompleteAsync((contestants, error) -> {
+                    loadingPanel.stop();
+
+                    if (error != null || contestants == null || contestants.size() < 2) {
+                        String reason = error != null ? error.getMessage() : "후보자가 부족합니다.";
+                        System.err.println("❌ 토너먼트 시작 실패: " + reason);
+                        JOptionPane.showMessageDialog(this, "후보자를 불러오지 못했습니다.\n" + reason,
+                                "오류", JOptionPane.ERROR_MESSAGE);
+                        cardLayout.show(mainPanel, "SETUP");
+                        return;
+                    }
+
+                    // 토너먼트 초기화
+                    tournamentManager.initializeTournament(category.getName(), contestants, round);
+
+                    // 첫 번째 대결 화면 표시
+                    showNextBattle();
+                }, SwingUtilities::invokeLater);
     }
 
     // 다음 대결화면 표시
@@ -160,6 +239,8 @@ public class Main extends JFrame {
         String matchInfo = tournamentManager.getCurrentMatchInfo();
 
         battlePanel.setBattle(left, right, roundName, matchInfo);
+        // 다음 몇 매치의 이미지를 미리 준비
+        battlePanel.prefetch(tournamentManager.getUpcomingContestants(6));
         cardLayout.show(mainPanel, "BATTLE");
     }
 
@@ -167,9 +248,34 @@ public class Main extends JFrame {
     private void showResult() {
         Contestant winner = tournamentManager.getWinner();
         resultPanel.setWinner(winner, selectedCategory.getName());
+        showLeaderboard(selectedCategory.getName());
         cardLayout.show(mainPanel, "RESULT");
     }
 
+    // 결과 화면에 카테고리 인기 순위 표시
+    private void showLeaderboard(String categoryName) {
+        List<PopularityLeaderboard.Entry> top = leaderboard.getTop(categoryName, 5);
+        resultPanel.setLeaderboard(Collections.emptyList());
+        if (top.isEmpty()) {
+            return;
+        }
+
+        // 순위에는 id만 있으므로 후보자 이름은 카탈로그에서 찾음
+        asyncDatabaseManager.getContestantsByCategory(categoryName)
+                .thenAcceptAsync(contestants -> {
+                    Map<Long, String> names = new HashMap<>();
+                    for (Contestant contestant : contestants) {
+                        names.put(contestant.getId(), contestant.getName());
+                    }
+                    List<String> rows = new ArrayList<>();
+                    for (PopularityLeaderboard.Entry entry : top) {
+                        String name = names.getOrDefault(entry.getContestantId(), "#" + entry.getContestantId());
+                        rows.add(name + " - 우승 " + entry.getChampionships() + "회");
+                    }
+                    resultPanel.setLeaderboard(rows);
+                }, SwingUtilities::invokeLater);
+    }
+
     /**
      * 현재 카테고리로 토너먼트를 재시작합니다.
      */
@@ -0,0 +1,65 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.Category;
+import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.model.MatchResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 데이터베이스 매니저 인터페이스
+ * DatabaseManager와 같은 기능을 CompletableFuture로 제공해, Swing EDT에서 DB 조회를 기다리지 않도록 합니다.
+ * 결과를 UI에 반영할 때는 SwingUtilities::invokeLater를 Executor로 넘겨 EDT에서 처리해야 합니다.
+ */
+public interface AsyncDatabaseManager {
+
+    /**
+     * 모든 카테고리 목록을 비동기로 가져옵니다.
+     * @return 카테고리 리스트 Future
+     */
+    CompletableFuture<List<Category>> getAllCategories();
+
+    /**
+     * 특정 카테고리의 모든 대전 후보자를 비동기로 가져옵니다.
+     * @param categoryName 카테고리 이름
+     * @return 대전 후보자 리스트 Future
+     */
+    CompletableFuture<List<Contestant>> getContestantsByCategory(String categoryName);
+
+    /**
+     * 특정 카테고리에서 무작위로 count명의 후보자를 비동기로 뽑습니다.
+     * @param categoryName 카테고리 이름
+     * @param count 뽑을 후보자 수
+     * @return 무작위 순서의 후보자 리스트 Future
+     */
+    CompletableFuture<List<Contestant>> getRandomContestants(String categoryName, int count);
+
+    /**
+     * 카테고리 이름으로 카테고리를 비동기로 조회합니다.
+     * @param categoryName 카테고리 이름
+     * @return 카테고리 객체 Future
+     */
+    CompletableFuture<Category> getCategoryByName(String categoryName);
+
+    /**
+     * 매치 결과를 작업 스레드에서 기록합니다. (저장 큐가 가득 찼을 때의 대기가 EDT를 막지 않음)
+     * 초기화가 끝나기 전에 들어온 결과는 초기화 완료 후 기록됩니다.
+     * @param result 매치 결과
+     * @return 보관 여부 Future (false면 결과를 저장하지 못함)
+     */
+    CompletableFuture<Boolean> recordMatchResult(MatchResult result);
+
+    /**
+     * 데이터베이스 연결을 비동기로 초기화합니다.
+     * 초기화가 끝나기 전에 요청된 조회는 초기화 완료 후 실행됩니다.
+     * @return 초기화 완료 Future
+     */
+    CompletableFuture<Void> initialize();
+
+    /**
+     * 기록 중인 매치 결과를 마친 뒤 데이터베이스 연결을 종료하고 작업 스레드를 정리합니다.
+     * @return 종료 완료 Future
+     */
+    CompletableFuture<Void> close();
+}
@@ -0,0 +1,184 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.Category;
+import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.model.MatchResult;
+import com.whatsyourpick.util.RandomSampler;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 카테고리별 후보자 목록을 캐시하는 DatabaseManager 데코레이터
+ * 같은 카테고리를 다시 조회하면 DB를 거치지 않고 캐시된 (변경 불가능한) 목록을 반환합니다.
+ * 항목은 TTL이 지나거나, 최대 개수를 넘으면 가장 오래 사용되지 않은 것부터 제거됩니다.
+ */
+public class CachingDatabaseManager implements DatabaseManager {
+
+    private final DatabaseManager delegate;
+    private final long ttlMillis;
+    private final Map<String, CacheEntry> cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * 기본 설정(TTL 1시간, 최대 32개 카테고리)으로 캐시를 생성합니다.
+     * @param delegate 실제 조회를 수행할 DatabaseManager
+     */
+    public CachingDatabaseManager(DatabaseManager delegate) {
+        this(delegate, 60 * 60 * 1000L, 32);
+    }
+
+    /**
+     * @param delegate 실제 조회를 수행할 DatabaseManager
+     * @param ttlMillis 캐시 항목 유효 시간 (밀리초)
+     * @param maxEntries 최대 캐시 카테고리 수
+     */
+    public CachingDatabaseManager(DatabaseManager delegate, long ttlMillis, int maxEntries) {
+        this.delegate = delegate;
+        this.ttlMillis = ttlMillis;
+        // 접근 순서 LinkedHashMap - 가장 오래 사용되지 않은 항목이 맨 앞
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > maxEntries) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public List<Contestant> getContestantsByCategory(String categoryName) {
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            CacheEntry entry = cache.get(categoryName);
+            if (entry != null) {
+                if (now - entry.loadedAt < ttlMillis) {
+                    hitCount.incrementAndGet();
+                    return entry.contestants;
+                }
+                cache.remove(categoryName);
+                evictionCount.incrementAndGet();
+            }
+        }
+
+        missCount.incrementAndGet();
+        List<Contestant> contestants = List.copyOf(delegate.getContestantsByCategory(categoryName));
+
+        // 빈 결과(연결 실패 등)는 캐시하지 않아 다음 조회에서 다시 시도
+        if (!contestants.isEmpty()) {
+            synchronized (cache) {
+                cache.put(categoryName, new CacheEntry(contestants, now));
+            }
+        }
+        return contestants;
+    }
+
+    /**
+     * 캐시된 카테고리는 메모리에서 뽑고, 캐시에 없으면 DB 표본 조회를 그대로 사용합니다.
+     * (표본 조회 결과는 카테고리 전체가 아니므로 캐시하지 않음)
+     */
+    @Override
+    public List<Contestant> getRandomContestants(String categoryName, int count) {
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            CacheEntry entry = cache.get(categoryName);
+            if (entry != null && now - entry.loadedAt < ttlMillis) {
+                hitCount.incrementAndGet();
+                return RandomSampler.sample(entry.contestants, count);
+            }
+        }
+        missCount.incrementAndGet();
+        return delegate.getRandomContestants(categoryName, count);
+    }
+
+    /**
+     * 특정 카테고리의 캐시를 무효화합니다.
+     * @param categoryName 카테고리 이름
+     */
+    public void invalidate(String categoryName) {
+        synchronized (cache) {
+            cache.remove(categoryName);
+        }
+    }
+
+    /**
+     * 모든 캐시를 무효화합니다.
+     */
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    @Override
+    public List<Category> getAllCategories() {
+        return delegate.getAllCategories();
+    }
+
+    @Override
+    public Category getCategoryByName(String categoryName) {
+        return delegate.getCategoryByName(categoryName);
+    }
+
+    @Override
+    public boolean recordMatchResult(MatchResult result) {
+        return delegate.recordMatchResult(result);
+    }
+
+    @Override
+    public void replayMatchResults(Consumer<MatchResult> consumer) {
+        delegate.replayMatchResults(consumer);
+    }
+
+    @Override
+    public Catalog loadCatalog() {
+        return delegate.loadCatalog();
+    }
+
+    @Override
+    public void initialize() {
+        delegate.initialize();
+    }
+
+    @Override
+    public void close() {
+        System.out.println("📊 후보자 캐시 통계: hit " + hitCount.get() + ", miss " + missCount.get()
+                + ", eviction " + evictionCount.get());
+        invalidateAll();
+        delegate.close();
+    }
+
+    /**
+     * 캐시 항목 (변경 불가능한 후보자 목록 + 로드 시각)
+     */
+    private static class CacheEntry {
+        private final List<Contestant> contestants;
+        private final long loadedAt;
+
+        CacheEntry(List<Contestant> contestants, long loadedAt) {
+            this.contestants = contestants;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.Category;
+import com.whatsyourpick.model.Contestant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전체 카탈로그(카테고리 + 후보자)의 메모리 인덱스
+ * 한 번 만들어지면 변경되지 않으며, 여러 스레드에서 동시에 조회해도 안전합니다.
+ */
+public class Catalog {
+
+    private final List<Category> categories;
+    private final Map<String, Category> categoriesByName;
+    private final Map<String, List<Contestant>> contestantsByCategory;
+    private final int contestantCount;
+
+    /**
+     * @param categories 카테고리 목록 (후보자 수가 설정되어 있어야 함)
+     * @param contestantsByCategory 카테고리 이름별 후보자 목록
+     */
+    public Catalog(List<Category> categories, Map<String, List<Contestant>> contestantsByCategory) {
+        this.categories = List.copyOf(categories);
+        this.categoriesByName = new LinkedHashMap<>();
+        for (Category category : categories) {
+            categoriesByName.put(category.getName(), category);
+        }
+
+        Map<String, List<Contestant>> index = new LinkedHashMap<>();
+        int total = 0;
+        for (Map.Entry<String, List<Contestant>> entry : contestantsByCategory.entrySet()) {
+            index.put(entry.getKey(), List.copyOf(entry.getValue()));
+            total += entry.getValue().size();
+        }
+        this.contestantsByCategory = Collections.unmodifiableMap(index);
+        this.contestantCount = total;
+    }
+
+    /**
+     * 카테고리 목록을 반환합니다.
+     * @return 변경 불가능한 카테고리 리스트
+     */
+    public List<Category> getCategories() {
+        return categories;
+    }
+
+    /**
+     * 카테고리 이름으로 카테고리를 조회합니다.
+     * @param categoryName 카테고리 이름
+     * @return 카테고리 (없으면 null)
+     */
+    public Category getCategory(String categoryName) {
+        return categoriesByName.get(categoryName);
+    }
+
+    /**
+     * 특정 카테고리의 후보자 목록을 반환합니다.
+     * @param categoryName 카테고리 이름
+     * @return 변경 불가능한 후보자 리스트 (없으면 빈 리스트)
+     */
+    public List<Contestant> getContestants(String categoryName) {
+        return contestantsByCategory.getOrDefault(categoryName, List.of());
+    }
+
+    /**
+     * 전체 후보자 수를 반환합니다.
+     */
+    public int getContestantCount() {
+        return contestantCount;
+    }
+
+    public boolean isEmpty() {
+        return contestantCount == 0;
+    }
+
+    /**
+     * 카테고리별 조회를 반복해 카탈로그를 만듭니다.
+     * 일괄 조회를 지원하지 않는 DatabaseManager 구현에서 사용합니다.
+     * @param databaseManager 조회할 DatabaseManager
+     * @return 카탈로그
+     */
+    public static Catalog load(DatabaseManager databaseManager) {
+        List<Category> categories = new ArrayList<>(databaseManager.getAllCategories());
+        Map<String, List<Contestant>> contestants = new LinkedHashMap<>();
+        for (Category category : categories) {
+            contestants.put(category.getName(), databaseManager.getContestantsByCategory(category.getName()));
+        }
+        return new Catalog(categories, contestants);
+    }
+}
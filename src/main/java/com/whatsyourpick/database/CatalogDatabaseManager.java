@@ -0,0 +1,114 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.Category;
+import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.model.MatchResult;
+import com.whatsyourpick.util.RandomSampler;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 시작 시 카탈로그 전체를 한 번에 읽어 메모리에서 조회를 처리하는 DatabaseManager 데코레이터
+ * 카탈로그가 로드된 뒤에는 카테고리/후보자 조회에 I/O가 발생하지 않습니다.
+ * 카탈로그 로드에 실패하면 조회를 대체 DatabaseManager(예: 후보자 캐시)로 넘깁니다.
+ * 카탈로그가 로드되어 있는 동안 대체 DatabaseManager는 전혀 사용되지 않습니다.
+ */
+public class CatalogDatabaseManager implements DatabaseManager {
+
+    private final DatabaseManager delegate;
+    private final DatabaseManager fallback;
+    private volatile Catalog catalog;
+
+    /**
+     * @param delegate 카탈로그를 로드하고, 로드 실패 시 조회를 대신 처리할 DatabaseManager
+     */
+    public CatalogDatabaseManager(DatabaseManager delegate) {
+        this(delegate, delegate);
+    }
+
+    /**
+     * @param delegate 카탈로그 로드, 매치 결과 기록, 연결 관리를 처리할 DatabaseManager
+     * @param fallback 카탈로그 로드에 실패했을 때만 조회를 처리할 DatabaseManager (delegate를 감싼 캐시 등, 닫지 않음)
+     */
+    public CatalogDatabaseManager(DatabaseManager delegate, DatabaseManager fallback) {
+        this.delegate = delegate;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void initialize() {
+        delegate.initialize();
+        reload();
+    }
+
+    /**
+     * 카탈로그를 다시 읽어옵니다.
+     * 새 카탈로그를 모두 읽은 뒤 교체하므로, 읽는 동안에도 기존 카탈로그로 조회할 수 있습니다.
+     */
+    public void reload() {
+        long start = System.nanoTime();
+        Catalog loaded = delegate.loadCatalog();
+        if (loaded.isEmpty()) {
+            System.err.println("⚠️  카탈로그를 읽지 못했거나 비어 있어 DB 조회를 계속 사용합니다.");
+            return;
+        }
+        catalog = loaded;
+        System.out.println("⚡ 카탈로그 프리로드 완료 (" + (System.nanoTime() - start) / 1_000_000 + "ms)");
+    }
+
+    /**
+     * 카탈로그가 메모리에 로드되어 있는지 확인합니다.
+     */
+    public boolean isLoaded() {
+        return catalog != null;
+    }
+
+    @Override
+    public List<Category> getAllCategories() {
+        Catalog current = catalog;
+        return current != null ? current.getCategories() : fallback.getAllCategories();
+    }
+
+    @Override
+    public List<Contestant> getContestantsByCategory(String categoryName) {
+        Catalog current = catalog;
+        return current != null ? current.getContestants(categoryName) : fallback.getContestantsByCategory(categoryName);
+    }
+
+    @Override
+    public List<Contestant> getRandomContestants(String categoryName, int count) {
+        Catalog current = catalog;
+        return current != null
+                ? RandomSampler.sample(current.getContestants(categoryName), count)
+                : fallback.getRandomContestants(categoryName, count);
+    }
+
+    @Override
+    public Category getCategoryByName(String categoryName) {
+        Catalog current = catalog;
+        return current != null ? current.getCategory(categoryName) : fallback.getCategoryByName(categoryName);
+    }
+
+    @Override
+    public boolean recordMatchResult(MatchResult result) {
+        return delegate.recordMatchResult(result);
+    }
+
+    @Override
+    public void replayMatchResults(Consumer<MatchResult> consumer) {
+        delegate.replayMatchResults(consumer);
+    }
+
+    @Override
+    public Catalog loadCatalog() {
+        Catalog current = catalog;
+        return current != null ? current : delegate.loadCatalog();
+    }
+
+    @Override
+    public void close() {
+        catalog = null;
+        delegate.close();
+    }
+}
@@ -0,0 +1,437 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.Category;
+import com.whatsyourpick.model.Contestant;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * CSV/TSV 카탈로그 파일을 contestant 테이블로 적재하는 도구 (db/insert_data.sql 대체)
+ * 파일 전체를 먼저 검증한 뒤 한 트랜잭션 안에서 적재하므로, 잘못된 행이 있으면 아무것도 바뀌지 않습니다.
+ * 기본은 rewriteBatchedStatements로 합쳐지는 배치 INSERT이고, 허용된 환경에서는 LOAD DATA LOCAL INFILE을 사용합니다.
+ *
+ * 파일 형식 (UTF-8, 첫 행은 헤더, 열 순서는 자유):
+ * <pre>
+ * name	category	image_path
+ * 강동원	남자배우	/images/contestants/남자배우/강동원.jpg
+ * </pre>
+ * 확장자가 .tsv면 탭, 그 밖에는 쉼표로 구분합니다. CSV는 큰따옴표로 감싼 값을 지원합니다. (값 안의 줄바꿈은 지원하지 않음)
+ */
+public class CatalogLoader {
+
+    private static final int MAX_NAME_LENGTH = 120;
+    private static final int MAX_CATEGORY_LENGTH = 50;
+    private static final int MAX_IMAGE_PATH_LENGTH = 255;
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private static final String INSERT_SQL = "INSERT INTO contestant (name, category, image_path) VALUES (?, ?, ?)";
+    private static final String UPSERT_SQL = INSERT_SQL + " ON DUPLICATE KEY UPDATE image_path = VALUES(image_path)";
+
+    // --replace: 파일 내용을 임시 테이블에 받은 뒤 기존 id를 유지하며 병합 (match_result가 후보자 id를 참조하므로)
+    private static final String STAGE_TABLE = "contestant_stage";
+    private static final String CREATE_STAGE_SQL = "CREATE TEMPORARY TABLE " + STAGE_TABLE + " ("
+            + "name VARCHAR(120) NOT NULL, category VARCHAR(50) NOT NULL, image_path VARCHAR(255) NOT NULL,"
+            + " PRIMARY KEY (name, category)) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci";
+    private static final String STAGE_INSERT_SQL =
+            "INSERT INTO " + STAGE_TABLE + " (name, category, image_path) VALUES (?, ?, ?)";
+    private static final String MERGE_SQL = "INSERT INTO contestant (name, category, image_path)"
+            + " SELECT name, category, image_path FROM " + STAGE_TABLE
+            + " ON DUPLICATE KEY UPDATE image_path = VALUES(image_path)";
+    private static final String DELETE_MISSING_SQL = "DELETE c FROM contestant c LEFT JOIN " + STAGE_TABLE + " s"
+            + " ON s.name = c.name AND s.category = c.category WHERE s.name IS NULL";
+
+    private CatalogLoader() {
+    }
+
+    /**
+     * 카탈로그 파일의 한 행
+     */
+    public static class Row {
+        private final String name;
+        private final String category;
+        private final String imagePath;
+
+        public Row(String name, String category, String imagePath) {
+            this.name = name;
+            this.category = category;
+            this.imagePath = imagePath;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getImagePath() {
+            return imagePath;
+        }
+    }
+
+    /**
+     * 카탈로그 파일을 읽고 검증합니다.
+     * @param file CSV/TSV 파일
+     * @param categories 허용할 카테고리 (null이면 검사하지 않음)
+     * @return 검증된 행 목록
+     * @throws IOException 파일을 읽을 수 없을 때
+     * @throws IllegalArgumentException 잘못된 행이 있을 때 (처음 몇 개의 오류를 모두 담음)
+     */
+    public static List<Row> read(Path file, Set<String> categories) throws IOException {
+        char delimiter = file.getFileName().toString().toLowerCase().endsWith(".tsv") ? '\t' : ',';
+        List<Row> rows = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        Set<String> uniqueKeys = new HashSet<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new IllegalArgumentException("카탈로그 파일이 비어 있습니다: " + file);
+            }
+            if (headerLine.startsWith("\uFEFF")) {
+                headerLine = headerLine.substring(1); // UTF-8 BOM
+            }
+            List<String> header = Arrays.asList(split(headerLine, delimiter));
+            int nameIndex = header.indexOf("name");
+            int categoryIndex = header.indexOf("category");
+            int imagePathIndex = header.indexOf("image_path");
+            if (nameIndex < 0 || categoryIndex < 0 || imagePathIndex < 0) {
+                throw new IllegalArgumentException("헤더에 name, category, image_path 열이 필요합니다: " + headerLine);
+            }
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] fields;
+                try {
+                    fields = split(line, delimiter);
+                } catch (IllegalArgumentException e) {
+                    addError(errors, lineNumber, e.getMessage());
+                    continue;
+                }
+                if (fields.length != header.size()) {
+                    addError(errors, lineNumber, "열 수가 헤더와 다릅니다 (" + fields.length + " / " + header.size() + ")");
+                    continue;
+                }
+
+                String name = fields[nameIndex].trim();
+                String category = fields[categoryIndex].trim();
+                String imagePath = fields[imagePathIndex].trim();
+
+                String error = validate(name, category, imagePath, categories);
+                if (error == null && !uniqueKeys.add(category + "\u0000" + name)) {
+                    error = "중복된 (name, category): " + name + " / " + category;
+                }
+                if (error != null) {
+                    addError(errors, lineNumber, error);
+                    continue;
+                }
+                rows.add(new Row(name, category, imagePath));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("카탈로그 검증 실패 (" + errors.size() + "건"
+                    + (errors.size() >= MAX_REPORTED_ERRORS ? " 이상" : "") + "):\n  " + String.join("\n  ", errors));
+        }
+        return rows;
+    }
+
+    private static String validate(String name, String category, String imagePath, Set<String> categories) {
+        if (name.isEmpty() || name.length() > MAX_NAME_LENGTH) {
+            return "name은 1~" + MAX_NAME_LENGTH + "자여야 합니다: '" + name + "'";
+        }
+        if (category.isEmpty() || category.length() > MAX_CATEGORY_LENGTH) {
+            return "category는 1~" + MAX_CATEGORY_LENGTH + "자여야 합니다: '" + category + "'";
+        }
+        if (categories != null && !categories.contains(category)) {
+            return "schema.sql에 없는 카테고리: " + category;
+        }
+        if (imagePath.isEmpty() || imagePath.length() > MAX_IMAGE_PATH_LENGTH) {
+            return "image_path는 1~" + MAX_IMAGE_PATH_LENGTH + "자여야 합니다: '" + imagePath + "'";
+        }
+        for (String value : new String[] {name, category, imagePath}) {
+            if (value.indexOf('\t') >= 0 || value.indexOf('\\') >= 0) {
+                return "값에 탭이나 역슬래시를 쓸 수 없습니다: '" + value + "'";
+            }
+        }
+        return null;
+    }
+
+    private static void addError(List<String> errors, int lineNumber, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(lineNumber + "행: " + message);
+        }
+    }
+
+    /**
+     * 한 행을 나눕니다. 쉼표 구분일 때는 큰따옴표로 감싼 값("" 는 따옴표 하나)을 지원합니다.
+     */
+    static String[] split(String line, char delimiter) {
+        if (delimiter == '\t') {
+            return line.split("\t", -1);
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' && current.length() == 0) {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표");
+        }
+        fields.add(current.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * 검증된 행을 한 트랜잭션으로 적재합니다. 실패하면 모두 되돌립니다.
+     * @param conn DB 커넥션
+     * @param rows 적재할 행
+     * @param replace true면 contestant를 파일 내용과 같게 맞춤 (있던 행은 id를 유지한 채 image_path 갱신, 파일에 없는 행만 삭제),
+     *                false면 (name, category)가 같은 행의 image_path만 갱신하고 나머지는 추가
+     * @param localInfile true면 LOAD DATA LOCAL INFILE을 먼저 시도 (replace일 때만, 허용되지 않으면 배치 INSERT로 대체)
+     * @param batchSize 배치 INSERT 한 번에 보낼 행 수
+     * @return 적재한 행 수
+     */
+    public static int load(Connection conn, List<Row> rows, boolean replace, boolean localInfile, int batchSize)
+            throws SQLException, IOException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            if (replace) {
+                replaceAll(conn, rows, localInfile, batchSize);
+            } else {
+                if (localInfile) {
+                    System.out.println("ℹ️  LOAD DATA는 --replace일 때만 사용합니다. 배치 INSERT로 적재합니다.");
+                }
+                batchInsert(conn, rows, UPSERT_SQL, batchSize);
+            }
+
+            conn.commit();
+            return rows.size();
+        } catch (SQLException | IOException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * 파일 내용을 임시 테이블에 적재한 뒤 contestant에 병합합니다.
+     * DELETE 후 다시 INSERT하면 모든 후보자가 새 AUTO_INCREMENT id를 받아 match_result와 인기 순위의 기록이
+     * 끊어지므로, (name, category)가 같은 행은 id를 유지하고 파일에 없는 행만 삭제합니다.
+     * (CREATE TEMPORARY TABLE은 암묵적 커밋을 일으키지 않아 같은 트랜잭션 안에서 처리됩니다)
+     */
+    private static void replaceAll(Connection conn, List<Row> rows, boolean localInfile, int batchSize)
+            throws SQLException, IOException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DROP TEMPORARY TABLE IF EXISTS " + STAGE_TABLE);
+            stmt.executeUpdate(CREATE_STAGE_SQL);
+            try {
+                boolean loaded = localInfile && loadDataLocalInfile(conn, rows, STAGE_TABLE);
+                if (!loaded) {
+                    batchInsert(conn, rows, STAGE_INSERT_SQL, batchSize);
+                }
+                stmt.executeUpdate(MERGE_SQL);
+                int deleted = stmt.executeUpdate(DELETE_MISSING_SQL);
+                System.out.println("🗑️  파일에 없는 후보자 " + deleted + "명 삭제 (나머지는 id 유지)");
+            } finally {
+                stmt.executeUpdate("DROP TEMPORARY TABLE IF EXISTS " + STAGE_TABLE);
+            }
+        }
+    }
+
+    private static void batchInsert(Connection conn, List<Row> rows, String sql, int batchSize) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int pending = 0;
+            for (Row row : rows) {
+                pstmt.setString(1, row.getName());
+                pstmt.setString(2, row.getCategory());
+                pstmt.setString(3, row.getImagePath());
+                pstmt.addBatch();
+                if (++pending >= batchSize) {
+                    pstmt.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                pstmt.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * 임시 TSV 파일을 만들어 LOAD DATA LOCAL INFILE로 적재합니다.
+     * 드라이버(allowLoadLocalInfile=true)나 서버(local_infile=ON)가 허용하지 않으면 false를 반환합니다.
+     */
+    private static boolean loadDataLocalInfile(Connection conn, List<Row> rows, String table)
+            throws SQLException, IOException {
+        Path temp = Files.createTempFile("wyp-catalog", ".tsv");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Row row : rows) {
+                    writer.write(row.getName() + "\t" + row.getCategory() + "\t" + row.getImagePath());
+                    writer.write('\n');
+                }
+            }
+
+            String path = temp.toAbsolutePath().toString().replace("\\", "\\\\").replace("'", "\\'");
+            String sql = "LOAD DATA LOCAL INFILE '" + path + "' INTO TABLE " + table + " CHARACTER SET utf8mb4"
+                    + " FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n' (name, category, image_path)";
+            try (Statement stmt = conn.createStatement()) {
+                int loaded = stmt.executeUpdate(sql);
+                if (loaded != rows.size()) {
+                    throw new SQLException("LOAD DATA 적재 행 수가 다릅니다: " + loaded + " / " + rows.size());
+                }
+                return true;
+            } catch (SQLException e) {
+                if (!isLocalInfileRejected(e)) {
+                    throw e;
+                }
+                System.out.println("⚠️  LOAD DATA LOCAL INFILE을 사용할 수 없어 배치 INSERT로 적재합니다: " + e.getMessage());
+                return false;
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static boolean isLocalInfileRejected(SQLException e) {
+        // 1148/3948: 서버에서 local_infile 비활성, 드라이버 설정에서 막힌 경우는 메시지로 판단
+        String message = String.valueOf(e.getMessage()).toLowerCase();
+        return e.getErrorCode() == 1148 || e.getErrorCode() == 3948
+                || message.contains("local infile") || message.contains("local data");
+    }
+
+    /**
+     * SQL 스크립트(schema.sql + insert_data.sql)의 카탈로그를 TSV 파일로 저장합니다. (기존 데이터 이전용)
+     */
+    public static int writeTsv(Path schemaFile, Path dataFile, Path output) throws IOException {
+        Catalog catalog = SqlCatalogParser.parse(schemaFile, dataFile);
+        int count = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write("name\tcategory\timage_path");
+            writer.newLine();
+            for (Category category : catalog.getCategories()) {
+                for (Contestant contestant : catalog.getContestants(category.getName())) {
+                    writer.write(contestant.getName() + "\t" + category.getName() + "\t" + contestant.getImagePath());
+                    writer.newLine();
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 사용법:
+     *   CatalogLoader [카탈로그.tsv|csv] [--replace] [--local-infile] [--batch 행 수] [--schema schema.sql]
+     *     (기본값: db/catalog.tsv, 배치 1000행, db/schema.sql이 있으면 카테고리 검사)
+     *     --replace      파일에 없는 후보자는 삭제하고 나머지는 id를 유지한 채 갱신 (없으면 (name, category) 기준 upsert)
+     *     --local-infile LOAD DATA LOCAL INFILE 사용 (URL에 allowLoadLocalInfile=true 필요)
+     *   CatalogLoader --from-sql [schema.sql] [insert_data.sql] [출력.tsv]
+     *     기존 SQL 스크립트를 TSV 카탈로그로 변환
+     *   접속 정보는 -Dwyp.db.* 프로퍼티를 사용합니다.
+     */
+    public static void main(String[] args) {
+        try {
+            if (args.length > 0 && args[0].equals("--from-sql")) {
+                Path schema = Paths.get(args.length > 1 ? args[1] : "db/schema.sql");
+                Path data = Paths.get(args.length > 2 ? args[2] : "db/insert_data.sql");
+                Path output = Paths.get(args.length > 3 ? args[3] : "db/catalog.tsv");
+                int count = writeTsv(schema, data, output);
+                System.out.println("✅ 카탈로그 변환 완료: " + output + " (" + count + "행)");
+                return;
+            }
+
+            Path file = Paths.get("db/catalog.tsv");
+            Path schema = Paths.get("db/schema.sql");
+            boolean replace = false;
+            boolean localInfile = false;
+            int batchSize = 1_000;
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--replace":
+                        replace = true;
+                        break;
+                    case "--local-infile":
+                        localInfile = true;
+                        break;
+                    case "--batch":
+                        batchSize = Integer.parseInt(args[++i]);
+                        break;
+                    case "--schema":
+                        schema = Paths.get(args[++i]);
+                        break;
+                    default:
+                        file = Paths.get(args[i]);
+                }
+            }
+
+            // 1. 읽기 + 검증
+            long start = System.nanoTime();
+            Set<String> categories = Files.exists(schema)
+                    ? new LinkedHashSet<>(SqlCatalogParser.parseCategories(Files.readString(schema, StandardCharsets.UTF_8)))
+                    : null;
+            List<Row> rows = read(file, categories);
+            long validated = System.nanoTime();
+            System.out.printf("📋 %s: %d행 검증 완료 (%.0f ms)%n", file, rows.size(), (validated - start) / 1e6);
+
+            // 2. 적재
+            DatabaseConfig config = DatabaseConfig.fromSystemProperties();
+            if (!config.getUrl().contains("rewriteBatchedStatements=true")) {
+                System.out.println("⚠️  URL에 rewriteBatchedStatements=true가 없으면 배치 INSERT가 행마다 전송됩니다.");
+            }
+            try (Connection conn = DriverManager.getConnection(config.getUrl(), config.getUser(), config.getPassword())) {
+                int loaded = load(conn, rows, replace, localInfile, batchSize);
+                double seconds = (System.nanoTime() - validated) / 1_000_000_000.0;
+                System.out.printf("✅ 카탈로그 적재 완료: %d행, %.2f초 (%.0f rows/s)%n", loaded, seconds, loaded / seconds);
+            }
+        } catch (Exception e) {
+            System.err.println("❌ 카탈로그 적재 실패: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.Category;
+import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.util.RandomSampler;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 바이너리 스냅샷 파일을 메모리 매핑으로 읽는 클래스 (형식은 CatalogSnapshotWriter 참고)
+ * 파일을 열 때는 헤더와 작은 카테고리 인덱스만 읽고, 후보자는 조회할 때 해당 레코드만 디코딩합니다.
+ * 같은 파일을 여는 여러 앱 인스턴스는 OS 페이지 캐시를 공유합니다.
+ * 절대 위치 읽기만 사용하므로 여러 스레드에서 동시에 조회해도 안전합니다.
+ */
+public class CatalogSnapshotReader {
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int contestantCount;
+    private final int recordsOffset;
+    private final int stringTableOffset;
+    private final int stringTableLength;
+
+    private final List<Category> categories;
+    private final Map<String, int[]> recordRanges; // 카테고리 이름 -> {첫 레코드 번호, 레코드 수}
+
+    private CatalogSnapshotReader(Path file, MappedByteBuffer buffer) throws IOException {
+        this.file = file;
+        this.buffer = buffer;
+
+        if (buffer.capacity() < CatalogSnapshotWriter.HEADER_SIZE || buffer.getInt(0) != CatalogSnapshotWriter.MAGIC) {
+            throw new IOException("스냅샷 파일이 아닙니다: " + file);
+        }
+        int version = buffer.getInt(4);
+        if (version != CatalogSnapshotWriter.VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다: " + version
+                    + " (필요: " + CatalogSnapshotWriter.VERSION + ", 스냅샷을 다시 만드세요) " + file);
+        }
+
+        int categoryCount = buffer.getInt(8);
+        this.contestantCount = buffer.getInt(12);
+        int categoryIndexOffset = buffer.getInt(16);
+        this.recordsOffset = buffer.getInt(20);
+        this.stringTableOffset = buffer.getInt(24);
+        this.stringTableLength = buffer.getInt(28);
+
+        if (categoryCount < 0 || contestantCount < 0
+                || categoryIndexOffset + (long) categoryCount * CatalogSnapshotWriter.CATEGORY_ENTRY_SIZE > recordsOffset
+                || recordsOffset + (long) contestantCount * CatalogSnapshotWriter.CONTESTANT_RECORD_SIZE > stringTableOffset
+                || (long) stringTableOffset + stringTableLength > buffer.capacity()) {
+            throw new IOException("스냅샷 파일이 손상되었습니다: " + file);
+        }
+
+        // 카테고리 인덱스는 작으므로 열 때 읽어 둠
+        List<Category> loaded = new ArrayList<>(categoryCount);
+        Map<String, int[]> ranges = new HashMap<>();
+        for (int i = 0; i < categoryCount; i++) {
+            int entry = categoryIndexOffset + i * CatalogSnapshotWriter.CATEGORY_ENTRY_SIZE;
+            long id = buffer.getLong(entry);
+            String name = string(buffer.getInt(entry + 8));
+            String imagePath = string(buffer.getInt(entry + 12));
+            int first = buffer.getInt(entry + 16);
+            int count = buffer.getInt(entry + 20);
+            if (first < 0 || count < 0 || first + count > contestantCount) {
+                throw new IOException("스냅샷 카테고리 인덱스가 손상되었습니다: " + name + " (" + file + ")");
+            }
+
+            Category category = new Category(id, name, imagePath);
+            category.setContestantCount(count);
+            loaded.add(category);
+            ranges.put(name, new int[]{first, count});
+        }
+        this.categories = List.copyOf(loaded);
+        this.recordRanges = ranges;
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑으로 엽니다.
+     * @param file 스냅샷 파일 경로
+     * @return 리더
+     * @throws IOException 파일이 없거나 형식이 잘못되었을 때
+     */
+    public static CatalogSnapshotReader open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫은 뒤에도 유효함
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CatalogSnapshotReader(file, buffer);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 카테고리 목록을 반환합니다.
+     */
+    public List<Category> getCategories() {
+        return categories;
+    }
+
+    /**
+     * 카테고리 이름으로 카테고리를 조회합니다.
+     * @return 카테고리 (없으면 null)
+     */
+    public Category getCategory(String categoryName) {
+        int[] range = recordRanges.get(categoryName);
+        if (range == null) {
+            return null;
+        }
+        for (Category category : categories) {
+            if (category.getName().equals(categoryName)) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 전체 후보자 수를 반환합니다.
+     */
+    public int getContestantCount() {
+        return contestantCount;
+    }
+
+    /**
+     * 특정 카테고리의 후보자 레코드를 읽어 목록으로 반환합니다.
+     * @param categoryName 카테고리 이름
+     * @return 후보자 리스트 (없으면 빈 리스트)
+     */
+    public List<Contestant> getContestants(String categoryName) {
+        int[] range = recordRanges.get(categoryName);
+        if (range == null) {
+            return List.of();
+        }
+        Category category = getCategory(categoryName);
+        List<Contestant> contestants = new ArrayList<>(range[1]);
+        for (int i = 0; i < range[1]; i++) {
+            contestants.add(record(range[0] + i, category.getId()));
+        }
+        return contestants;
+    }
+
+    /**
+     * 특정 카테고리에서 count개의 레코드만 무작위로 골라 읽습니다.
+     * @param categoryName 카테고리 이름
+     * @param count 뽑을 후보자 수
+     * @return 무작위 순서의 후보자 리스트
+     */
+    public List<Contestant> getRandomContestants(String categoryName, int count) {
+        int[] range = recordRanges.get(categoryName);
+        if (range == null) {
+            return List.of();
+        }
+        Category category = getCategory(categoryName);
+        int[] picks = RandomSampler.sampleIndices(range[1], count);
+        List<Contestant> contestants = new ArrayList<>(picks.length);
+        for (int pick : picks) {
+            contestants.add(record(range[0] + pick, category.getId()));
+        }
+        return contestants;
+    }
+
+    /**
+     * 스냅샷 전체를 메모리 카탈로그로 변환합니다.
+     * @return 카탈로그
+     */
+    public Catalog toCatalog() {
+        Map<String, List<Contestant>> contestantsByCategory = new LinkedHashMap<>();
+        for (Category category : categories) {
+            contestantsByCategory.put(category.getName(), getContestants(category.getName()));
+        }
+        return new Catalog(categories, contestantsByCategory);
+    }
+
+    private Contestant record(int index, Long categoryId) {
+        int position = recordsOffset + index * CatalogSnapshotWriter.CONTESTANT_RECORD_SIZE;
+        long id = buffer.getLong(position);
+        String name = string(buffer.getInt(position + 8));
+        String imagePath = string(buffer.getInt(position + 12));
+        return new Contestant(id, name, imagePath, categoryId);
+    }
+
+    private String string(int ref) {
+        if (ref < 0 || ref + 4 > stringTableLength) {
+            throw new IllegalStateException("잘못된 문자열 참조: " + ref + " (" + file + ")");
+        }
+        int length = buffer.getInt(stringTableOffset + ref);
+        if (length < 0 || ref + 4L + length > stringTableLength) {
+            throw new IllegalStateException("잘못된 문자열 길이: " + length + " (" + file + ")");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(stringTableOffset + ref + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,183 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.Category;
+import com.whatsyourpick.model.Contestant;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카탈로그를 바이너리 스냅샷 파일로 저장하는 클래스
+ *
+ * 파일 형식 (버전 2, 빅엔디안):
+ * <pre>
+ * [헤더 32바이트]
+ *   int MAGIC ('WYPC'), int VERSION,
+ *   int 카테고리 수, int 후보자 수,
+ *   int 카테고리 인덱스 위치, int 후보자 레코드 위치, int 문자열 테이블 위치, int 문자열 테이블 길이
+ * [카테고리 인덱스] 카테고리마다 24바이트
+ *   long id, int 이름 참조, int 이미지 경로 참조, int 첫 레코드 번호, int 레코드 수
+ * [후보자 레코드] 후보자마다 16바이트 (카테고리 순서로 연속 배치)
+ *   long id, int 이름 참조, int 이미지 경로 참조
+ * [문자열 테이블]
+ *   int 바이트 길이 + UTF-8 바이트 (같은 문자열은 한 번만 저장, 참조 = 테이블 내 위치)
+ * </pre>
+ * 레코드 크기가 고정되어 있어 리더는 필요한 레코드만 바로 찾아 읽을 수 있습니다.
+ */
+public class CatalogSnapshotWriter {
+
+    public static final int MAGIC = 0x57595043; // "WYPC"
+    public static final int VERSION = 2;
+
+    static final int HEADER_SIZE = 32;
+    static final int CATEGORY_ENTRY_SIZE = 24;
+    static final int CONTESTANT_RECORD_SIZE = 16;
+
+    private CatalogSnapshotWriter() {
+    }
+
+    /**
+     * 카탈로그를 파일로 저장합니다.
+     * 임시 파일에 쓴 뒤 교체하므로, 실행 중인 앱이 매핑한 파일이 깨지지 않습니다.
+     * @param catalog 저장할 카탈로그
+     * @param output 출력 파일 경로
+     * @throws IOException 파일 쓰기 오류
+     */
+    public static void write(Catalog catalog, Path output) throws IOException {
+        List<Category> categories = catalog.getCategories();
+        StringTable strings = new StringTable();
+
+        // 1. 카테고리 인덱스와 후보자 레코드를 만들면서 문자열 테이블을 채움
+        ByteArrayOutputStream categoryBytes = new ByteArrayOutputStream(categories.size() * CATEGORY_ENTRY_SIZE);
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(catalog.getContestantCount() * CONTESTANT_RECORD_SIZE);
+        DataOutputStream categoryOut = new DataOutputStream(categoryBytes);
+        DataOutputStream recordOut = new DataOutputStream(recordBytes);
+
+        int recordCount = 0;
+        for (Category category : categories) {
+            List<Contestant> contestants = catalog.getContestants(category.getName());
+
+            categoryOut.writeLong(category.getId() != null ? category.getId() : 0L);
+            categoryOut.writeInt(strings.ref(category.getName()));
+            categoryOut.writeInt(strings.ref(category.getImagePath()));
+            categoryOut.writeInt(recordCount);
+            categoryOut.writeInt(contestants.size());
+
+            for (Contestant contestant : contestants) {
+                recordOut.writeLong(contestant.getId());
+                recordOut.writeInt(strings.ref(contestant.getName()));
+                recordOut.writeInt(strings.ref(contestant.getImagePath()));
+            }
+            recordCount += contestants.size();
+        }
+
+        int categoryIndexOffset = HEADER_SIZE;
+        int recordsOffset = categoryIndexOffset + categoryBytes.size();
+        int stringTableOffset = recordsOffset + recordBytes.size();
+
+        // 2. 헤더 + 각 영역을 임시 파일에 기록
+        Path parent = output.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, output.getFileName().toString(), ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(categories.size());
+            out.writeInt(recordCount);
+            out.writeInt(categoryIndexOffset);
+            out.writeInt(recordsOffset);
+            out.writeInt(stringTableOffset);
+            out.writeInt(strings.size());
+
+            categoryBytes.writeTo(out);
+            recordBytes.writeTo(out);
+            strings.writeTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 중복을 제거한 문자열 테이블
+     */
+    private static class StringTable {
+        private final Map<String, Integer> refs = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        int ref(String value) throws IOException {
+            String key = value != null ? value : "";
+            Integer ref = refs.get(key);
+            if (ref == null) {
+                ref = bytes.size();
+                byte[] encoded = key.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(encoded.length);
+                out.write(encoded);
+                refs.put(key, ref);
+            }
+            return ref;
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            bytes.writeTo(target);
+        }
+    }
+
+    /**
+     * 스냅샷 파일을 만듭니다.
+     * 사용법:
+     *   CatalogSnapshotWriter [schema.sql] [insert_data.sql] [출력 파일]   - SQL 스크립트에서 생성
+     *   CatalogSnapshotWriter --mysql [출력 파일]                          - MySQL(wyp.db.* 설정)에서 내보내기
+     */
+    public static void main(String[] args) {
+        try {
+            Catalog catalog;
+            Path output;
+
+            if (args.length > 0 && args[0].equals("--mysql")) {
+                output = Paths.get(args.length > 1 ? args[1] : DatabaseConfig.DEFAULT_SNAPSHOT_PATH);
+                JdbcManager jdbcManager = new JdbcManager(DatabaseConfig.fromSystemProperties());
+                jdbcManager.initialize();
+                try {
+                    catalog = jdbcManager.loadCatalog();
+                } finally {
+                    jdbcManager.close();
+                }
+                if (catalog.isEmpty()) {
+                    throw new IllegalStateException("MySQL에서 카탈로그를 읽지 못했거나 비어 있습니다.");
+                }
+            } else {
+                Path schema = Paths.get(args.length > 0 ? args[0] : "db/schema.sql");
+                Path data = Paths.get(args.length > 1 ? args[1] : "db/insert_data.sql");
+                output = Paths.get(args.length > 2 ? args[2] : DatabaseConfig.DEFAULT_SNAPSHOT_PATH);
+                catalog = SqlCatalogParser.parse(schema, data);
+            }
+
+            write(catalog, output);
+            System.out.println("✅ 스냅샷 저장 완료: " + output + " (카테고리 " + catalog.getCategories().size()
+                    + "개, 후보자 " + catalog.getContestantCount() + "명, " + Files.size(output) + " bytes)");
+        } catch (Exception e) {
+            System.err.println("❌ 스냅샷 생성 실패: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
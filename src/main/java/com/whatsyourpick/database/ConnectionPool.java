@@ -0,0 +1,269 @@
+package com.whatsyourpick.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 크기가 제한된 JDBC 커넥션 풀
+ * 최소/최대 크기, 검증 쿼리, 유휴 커넥션 정리, 대여 타임아웃, 자동 재연결을 지원합니다.
+ * getConnection()으로 받은 커넥션은 close() 하면 실제로 닫히지 않고 풀로 반환됩니다.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private final DatabaseConfig config;
+
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;                          // 동시에 대여 가능한 커넥션 수 (최대 크기)
+    private final AtomicInteger openCount = new AtomicInteger(); // 열려 있는 물리 커넥션 수
+    private final ScheduledExecutorService maintenance;
+    private volatile boolean closed = false;
+
+    public ConnectionPool(DatabaseConfig config) {
+        if (config.getPoolMinSize() < 0 || config.getPoolMaxSize() < 1
+                || config.getPoolMinSize() > config.getPoolMaxSize()) {
+            throw new IllegalArgumentException("잘못된 풀 크기: min=" + config.getPoolMinSize()
+                    + ", max=" + config.getPoolMaxSize());
+        }
+        this.config = config;
+        this.permits = new Semaphore(config.getPoolMaxSize(), true);
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "db-pool-maintenance");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 최소 크기만큼 커넥션을 미리 열고, 유휴 정리/재연결 작업을 시작합니다.
+     * DB에 연결할 수 없어도 예외를 던지지 않으며, 이후 주기적으로 재연결을 시도합니다.
+     */
+    public void start() {
+        fillToMinimum();
+        long period = Math.max(1_000L, Math.min(config.getIdleTimeoutMillis() / 2, 30_000L));
+        maintenance.scheduleWithFixedDelay(this::maintain, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 풀에서 커넥션을 대여합니다.
+     * 사용 후에는 반드시 close()를 호출해 반환해야 합니다. (try-with-resources 권장)
+     * @return 풀에 연결된 커넥션
+     * @throws SQLException 대여 타임아웃 또는 연결 실패 시
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("커넥션 풀이 이미 종료되었습니다.");
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(config.getBorrowTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션 대기 중 인터럽트되었습니다.", e);
+        }
+        if (!acquired) {
+            throw new SQLTimeoutException("커넥션 대여 타임아웃 (" + config.getBorrowTimeoutMillis() + "ms)");
+        }
+
+        try {
+            // 최근에 반환된 커넥션부터 사용 (LIFO) - 오래된 커넥션은 뒤쪽에 남아 정리 대상이 됨
+            PooledConnection pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (validate(pooled)) {
+                    return pooled.lease();
+                }
+                discard(pooled);
+            }
+            return open().lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 대여 중인 커넥션 수를 반환합니다.
+     */
+    public int getActiveCount() {
+        return config.getPoolMaxSize() - permits.availablePermits();
+    }
+
+    /**
+     * 풀에서 쉬고 있는 커넥션 수를 반환합니다.
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * 풀을 종료하고 쉬고 있는 커넥션을 모두 닫습니다.
+     * 대여 중인 커넥션은 반환되는 시점에 닫힙니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        maintenance.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+    }
+
+    private PooledConnection open() throws SQLException {
+        Connection raw = DriverManager.getConnection(config.getUrl(), config.getUser(), config.getPassword());
+        openCount.incrementAndGet();
+        return new PooledConnection(raw);
+    }
+
+    private void discard(PooledConnection pooled) {
+        openCount.decrementAndGet();
+        try {
+            pooled.raw.close();
+        } catch (SQLException e) {
+            // 이미 끊어진 커넥션은 닫기 실패를 무시
+        }
+    }
+
+    /**
+     * 커넥션이 살아 있는지 검증 쿼리로 확인합니다.
+     * 최근에 검증/사용된 커넥션은 검증을 생략해 대여 비용을 줄입니다.
+     */
+    private boolean validate(PooledConnection pooled) {
+        long now = System.currentTimeMillis();
+        if (now - pooled.lastValidated < config.getValidationIntervalMillis()) {
+            return true;
+        }
+        try (Statement stmt = pooled.raw.createStatement()) {
+            stmt.setQueryTimeout(Math.max(1, (int) (config.getBorrowTimeoutMillis() / 1000)));
+            stmt.execute(config.getValidationQuery());
+            pooled.lastValidated = now;
+            return true;
+        } catch (SQLException e) {
+            System.err.println("⚠️  끊어진 커넥션을 폐기합니다: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 대여했던 커넥션을 풀로 되돌립니다.
+     */
+    private void release(PooledConnection pooled, boolean broken) {
+        try {
+            if (closed || broken || pooled.raw.isClosed()) {
+                discard(pooled);
+                return;
+            }
+            // 트랜잭션을 쓰던 커넥션은 기본 상태로 되돌려서 반환
+            if (!pooled.raw.getAutoCommit()) {
+                pooled.raw.rollback();
+                pooled.raw.setAutoCommit(true);
+            }
+            pooled.lastUsed = System.currentTimeMillis();
+            idle.offerFirst(pooled);
+        } catch (SQLException e) {
+            discard(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 주기 작업: 최소 크기를 넘는 오래된 유휴 커넥션을 정리하고, 부족하면 다시 채웁니다.
+     */
+    private void maintain() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> it = idle.descendingIterator();
+        while (it.hasNext() && openCount.get() > config.getPoolMinSize()) {
+            PooledConnection pooled = it.next();
+            if (now - pooled.lastUsed >= config.getIdleTimeoutMillis() && idle.remove(pooled)) {
+                discard(pooled);
+            }
+        }
+        fillToMinimum();
+    }
+
+    private void fillToMinimum() {
+        while (!closed && openCount.get() < config.getPoolMinSize()) {
+            try {
+                idle.offerLast(open());
+            } catch (SQLException e) {
+                System.err.println("⚠️  커넥션 풀 연결 실패 (다음 주기에 재시도): " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 풀이 관리하는 물리 커넥션
+     */
+    private class PooledConnection {
+        private final Connection raw;
+        private volatile long lastUsed;
+        private volatile long lastValidated;
+
+        PooledConnection(Connection raw) {
+            this.raw = raw;
+            this.lastUsed = System.currentTimeMillis();
+            this.lastValidated = this.lastUsed;
+        }
+
+        /**
+         * close() 호출 시 풀로 반환되는 프록시 커넥션을 만듭니다.
+         */
+        Connection lease() {
+            InvocationHandler handler = new InvocationHandler() {
+                private boolean returned = false;
+                private boolean broken = false;
+
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    switch (method.getName()) {
+                        case "close":
+                            if (!returned) {
+                                returned = true;
+                                release(PooledConnection.this, broken);
+                            }
+                            return null;
+                        case "isClosed":
+                            return returned || raw.isClosed();
+                        case "unwrap":
+                        case "isWrapperFor":
+                            break;
+                        default:
+                            if (returned) {
+                                throw new SQLException("이미 풀로 반환된 커넥션입니다.");
+                            }
+                    }
+                    try {
+                        return method.invoke(raw, args);
+                    } catch (InvocationTargetException e) {
+                        Throwable cause = e.getCause();
+                        // 통신 오류(SQLState 08xxx)가 난 커넥션은 반환 시 폐기
+                        if (cause instanceof SQLException sqlException
+                                && sqlException.getSQLState() != null
+                                && sqlException.getSQLState().startsWith("08")) {
+                            broken = true;
+                        }
+                        throw cause;
+                    }
+                }
+            };
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.whatsyourpick.database;
+
+import java.nio.file.Paths;
+
+/**
+ * 데이터베이스 설정 클래스
+ * 시스템 프로퍼티(-Dwyp.db.url=... 등)로 값을 덮어쓸 수 있으며, 지정하지 않으면 기본값을 사용합니다.
+ */
+public class DatabaseConfig {
+
+    public static final String BACKEND_MYSQL = "mysql";
+    public static final String BACKEND_SNAPSHOT = "snapshot";
+    public static final String DEFAULT_SNAPSHOT_PATH = "db/catalog.snapshot";
+
+    private String backend;        // mysql | snapshot
+    private String snapshotPath;   // snapshot 백엔드에서 사용할 파일
+
+    private String url;
+    private String user;
+    private String password;
+
+    // 커넥션 풀 설정
+    private int poolMinSize;
+    private int poolMaxSize;
+    private String validationQuery;
+    private long validationIntervalMillis;  // 이 시간 안에 검증된 커넥션은 다시 검증하지 않음
+    private long idleTimeoutMillis;         // 이 시간 이상 쉬고 있는 커넥션은 정리 (최소 크기 초과분)
+    private long borrowTimeoutMillis;       // 커넥션 대여 최대 대기 시간
+
+    // 매치 결과 write-behind 설정
+    private int writerQueueCapacity;
+    private int writerBatchSize;
+    private long writerOfferTimeoutMillis;  // 큐가 가득 찼을 때 기록 작업 스레드가 기다리는 최대 시간
+
+    // 매치 결과 로컬 저널 설정 (journalDir이 없으면 사용하지 않음)
+    private String journalDir;
+    private MatchJournal.FsyncPolicy journalFsyncPolicy;
+    private long journalFsyncIntervalMillis;
+    private int journalSegmentRecords;
+    private long journalReplayIntervalMillis;
+
+    public DatabaseConfig() {
+    }
+
+    /**
+     * 시스템 프로퍼티에서 설정을 읽어옵니다.
+     * @return 데이터베이스 설정
+     */
+    public static DatabaseConfig fromSystemProperties() {
+        DatabaseConfig config = new DatabaseConfig();
+        config.backend = System.getProperty("wyp.db.backend", BACKEND_MYSQL);
+        config.snapshotPath = System.getProperty("wyp.db.snapshot", DEFAULT_SNAPSHOT_PATH);
+
+        config.url = System.getProperty("wyp.db.url",
+                "jdbc:mysql://localhost:3306/idealcup?useSSL=false&serverTimezone=Asia/Seoul&rewriteBatchedStatements=true");
+        config.user = System.getProperty("wyp.db.user", "root");
+        config.password = System.getProperty("wyp.db.password", "00000000");
+
+        config.poolMinSize = Integer.getInteger("wyp.db.pool.min", 2);
+        config.poolMaxSize = Integer.getInteger("wyp.db.pool.max", 8);
+        config.validationQuery = System.getProperty("wyp.db.pool.validationQuery", "SELECT 1");
+        config.validationIntervalMillis = Long.getLong("wyp.db.pool.validationIntervalMs", 5_000L);
+        config.idleTimeoutMillis = Long.getLong("wyp.db.pool.idleTimeoutMs", 300_000L);
+        config.borrowTimeoutMillis = Long.getLong("wyp.db.pool.borrowTimeoutMs", 5_000L);
+
+        config.writerQueueCapacity = Integer.getInteger("wyp.db.writer.queueCapacity", 1_000);
+        config.writerBatchSize = Integer.getInteger("wyp.db.writer.batchSize", 100);
+        config.writerOfferTimeoutMillis = Long.getLong("wyp.db.writer.offerTimeoutMs", 200L);
+
+        config.journalDir = System.getProperty("wyp.journal.dir");
+        config.journalFsyncPolicy = MatchJournal.FsyncPolicy.valueOf(
+                System.getProperty("wyp.journal.fsync", "interval").toUpperCase());
+        config.journalFsyncIntervalMillis = Long.getLong("wyp.journal.fsyncIntervalMs", 1_000L);
+        config.journalSegmentRecords = Integer.getInteger("wyp.journal.segmentRecords", 1_024);
+        config.journalReplayIntervalMillis = Long.getLong("wyp.journal.replayIntervalMs", 5_000L);
+        return config;
+    }
+
+    /**
+     * 설정된 백엔드에 맞는 DatabaseManager를 만듭니다.
+     * mysql: 카탈로그 프리로드 + JDBC 커넥션 풀 (후보자 캐시는 프리로드에 실패했을 때만 사용)
+     * snapshot: 로컬 스냅샷 파일 (이미 전부 메모리에서 조회하므로 추가 캐시 없음)
+     * @return DatabaseManager (initialize()는 호출하지 않은 상태)
+     */
+    public DatabaseManager createDatabaseManager() {
+        if (BACKEND_SNAPSHOT.equalsIgnoreCase(backend)) {
+            System.out.println("💾 스냅샷 백엔드 사용: " + snapshotPath);
+            return new SnapshotDatabaseManager(Paths.get(snapshotPath));
+        }
+        if (!BACKEND_MYSQL.equalsIgnoreCase(backend)) {
+            System.err.println("⚠️  알 수 없는 백엔드 '" + backend + "', MySQL을 사용합니다.");
+        }
+        JdbcManager jdbc = new JdbcManager(this);
+        return new CatalogDatabaseManager(jdbc, new CachingDatabaseManager(jdbc));
+    }
+
+    // Getters
+    public String getBackend() {
+        return backend;
+    }
+
+    public String getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getPoolMinSize() {
+        return poolMinSize;
+    }
+
+    public int getPoolMaxSize() {
+        return poolMaxSize;
+    }
+
+    public String getValidationQuery() {
+        return validationQuery;
+    }
+
+    public long getValidationIntervalMillis() {
+        return validationIntervalMillis;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public long getBorrowTimeoutMillis() {
+        return borrowTimeoutMillis;
+    }
+
+    public int getWriterQueueCapacity() {
+        return writerQueueCapacity;
+    }
+
+    public int getWriterBatchSize() {
+        return writerBatchSize;
+    }
+
+    public long getWriterOfferTimeoutMillis() {
+        return writerOfferTimeoutMillis;
+    }
+
+    public String getJournalDir() {
+        return journalDir;
+    }
+
+    public MatchJournal.FsyncPolicy getJournalFsyncPolicy() {
+        return journalFsyncPolicy;
+    }
+
+    public long getJournalFsyncIntervalMillis() {
+        return journalFsyncIntervalMillis;
+    }
+
+    public int getJournalSegmentRecords() {
+        return journalSegmentRecords;
+    }
+
+    public long getJournalReplayIntervalMillis() {
+        return journalReplayIntervalMillis;
+    }
+}
@@ -2,7 +2,10 @@ package com.whatsyourpick.database;
 
 import com.whatsyourpick.model.Category;
 import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.model.MatchResult;
+import com.whatsyourpick.util.RandomSampler;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 데이터베이스 매니저 인터페이스
@@ -23,6 +26,17 @@ public interface DatabaseManager {
      */
     List<Contestant> getContestantsByCategory(String categoryName);
 
+    /**
+     * 특정 카테고리에서 중복 없이 무작위로 count명의 후보자를 뽑습니다.
+     * 기본 구현은 전체 목록을 가져와 뽑으므로, DB에서 직접 뽑을 수 있는 구현은 재정의해야 합니다.
+     * @param categoryName 카테고리 이름
+     * @param count 뽑을 후보자 수 (카테고리 후보자 수보다 크면 전체)
+     * @return 무작위 순서의 후보자 리스트
+     */
+    default List<Contestant> getRandomContestants(String categoryName, int count) {
+        return RandomSampler.sample(getContestantsByCategory(categoryName), count);
+    }
+
     /**
      * 카테고리 이름으로 카테고리를 조회합니다.
      * @param categoryName 카테고리 이름
@@ -30,6 +44,35 @@ public interface DatabaseManager {
      */
     Category getCategoryByName(String categoryName);
 
+    /**
+     * 전체 카탈로그(카테고리 + 후보자)를 한 번에 가져옵니다.
+     * 기본 구현은 카테고리별로 조회하므로, 일괄 조회가 가능한 구현은 재정의해야 합니다.
+     * @return 카탈로그
+     */
+    default Catalog loadCatalog() {
+        return Catalog.load(this);
+    }
+
+    /**
+     * 매치 결과를 기록합니다.
+     * 구현은 DB 왕복 없이 반환하지만 저장 큐가 가득 차면 잠시 대기할 수 있으므로,
+     * Swing EDT에서는 AsyncDatabaseManager.recordMatchResult로 호출해야 합니다.
+     * 기본 구현은 아무것도 저장하지 않습니다.
+     * @param result 매치 결과
+     * @return 저장했거나 저장 대기열/저널에 보관했으면 true, 결과를 보관하지 못했으면 false
+     */
+    default boolean recordMatchResult(MatchResult result) {
+        return true;
+    }
+
+    /**
+     * 저장된 매치 결과를 기록 순서대로 읽어 consumer에 전달합니다. (순위 집계 초기화용)
+     * 기본 구현은 저장된 결과가 없는 것으로 취급합니다.
+     * @param consumer 매치 결과를 받을 함수
+     */
+    default void replayMatchResults(Consumer<MatchResult> consumer) {
+    }
+
     /**
      * 데이터베이스 연결을 초기화합니다.
      */
@@ -37,6 +80,7 @@ public interface DatabaseManager {
 
     /**
      * 데이터베이스 연결을 종료합니다.
+     * 아직 저장되지 않은 매치 결과가 있으면 저장한 뒤 종료합니다.
      */
     void close();
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.Category;
+import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.model.MatchResult;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동기 DatabaseManager를 전용 작업 스레드 풀에서 실행하는 AsyncDatabaseManager 구현
+ */
+public class ExecutorAsyncDatabaseManager implements AsyncDatabaseManager {
+
+    private final DatabaseManager delegate;
+    private final ExecutorService executor;
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    private final Set<CompletableFuture<Boolean>> pendingRecords = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 기본 크기(4개)의 작업 스레드 풀을 사용합니다.
+     * @param delegate 실제 조회를 수행할 DatabaseManager
+     */
+    public ExecutorAsyncDatabaseManager(DatabaseManager delegate) {
+        this(delegate, 4);
+    }
+
+    /**
+     * @param delegate 실제 조회를 수행할 DatabaseManager
+     * @param threads 작업 스레드 수
+     */
+    public ExecutorAsyncDatabaseManager(DatabaseManager delegate, int threads) {
+        this.delegate = delegate;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "db-worker-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<Category>> getAllCategories() {
+        return ready.thenApplyAsync(v -> delegate.getAllCategories(), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<Contestant>> getContestantsByCategory(String categoryName) {
+        return ready.thenApplyAsync(v -> delegate.getContestantsByCategory(categoryName), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<Contestant>> getRandomContestants(String categoryName, int count) {
+        return ready.thenApplyAsync(v -> delegate.getRandomContestants(categoryName, count), executor);
+    }
+
+    @Override
+    public CompletableFuture<Category> getCategoryByName(String categoryName) {
+        return ready.thenApplyAsync(v -> delegate.getCategoryByName(categoryName), executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> recordMatchResult(MatchResult result) {
+        CompletableFuture<Boolean> future = ready.thenApplyAsync(v -> delegate.recordMatchResult(result), executor);
+        pendingRecords.add(future);
+        future.whenComplete((saved, error) -> pendingRecords.remove(future));
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> initialize() {
+        CompletableFuture.runAsync(delegate::initialize, executor)
+                .whenComplete((v, error) -> {
+                    // 초기화가 실패해도 대기 중인 조회는 진행 (각 구현이 연결 없음을 처리)
+                    if (error != null) {
+                        System.err.println("❌ 데이터베이스 초기화 오류: " + error.getMessage());
+                    }
+                    ready.complete(null);
+                });
+        return ready;
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        // 기록 중인 매치 결과가 끝난 뒤 닫아야 결과가 닫힌 작성기로 가지 않음
+        CompletableFuture<?>[] pending = pendingRecords.toArray(new CompletableFuture<?>[0]);
+        return ready.thenCompose(v -> CompletableFuture.allOf(pending).exceptionally(error -> null))
+                .thenRunAsync(delegate::close, executor)
+                .whenComplete((v, error) -> executor.shutdown());
+    }
+}
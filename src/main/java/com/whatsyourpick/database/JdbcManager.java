@@ -2,29 +2,40 @@ package com.whatsyourpick.database;
 
 import com.whatsyourpick.model.Category;
 import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.model.MatchResult;
+import com.whatsyourpick.util.RandomSampler;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.sql.*;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public class JdbcManager implements DatabaseManager {
 
-    private Connection conn;
+    private final DatabaseConfig config;
+    private volatile ConnectionPool pool;
+    private volatile MatchResultWriter matchResultWriter;
+    private volatile MatchJournal matchJournal;             // 저널 모드: 결과를 먼저 로컬에 기록
+    private volatile MatchJournalReplayer journalReplayer;
 
-    private static final Map<String, String> categoryImagePaths = new HashMap<>();
+    /**
+     * 카테고리 대표 이미지 경로를 반환합니다. (리소스 images/카테고리_표지.png)
+     */
+    static String categoryImagePath(String categoryName) {
+        return "images/" + categoryName + "_표지.png";
+    }
+
+    public JdbcManager() {
+        this(DatabaseConfig.fromSystemProperties());
+    }
 
-    static {
-        categoryImagePaths.put("여자아이돌", "images/categories/female-idol.jpg");
-        categoryImagePaths.put("남자아이돌", "images/categories/male-idol.jpg");
-        categoryImagePaths.put("음식", "images/categories/food.jpg");
-        categoryImagePaths.put("여행지", "images/categories/travel.jpg");
-        categoryImagePaths.put("남자배우", "images/categories/male-actor.jpg");
-        categoryImagePaths.put("여자배우", "images/categories/female-actor.jpg");
-        categoryImagePaths.put("드라마", "images/categories/movie-drama.jpg");
-        categoryImagePaths.put("OST", "images/categories/ost.jpg");
-        categoryImagePaths.put("애니메이션", "images/categories/animation.jpg");
+    public JdbcManager(DatabaseConfig config) {
+        this.config = config;
     }
 
     @Override
@@ -32,17 +43,48 @@ public class JdbcManager implements DatabaseManager {
         try {
             // MySQL JDBC 드라이버 로드
             Class.forName("com.mysql.cj.jdbc.Driver");
-
-            String url = "jdbc:mysql://localhost:3306/idealcup?useSSL=false&serverTimezone=Asia/Seoul";
-            String user = "root";
-            String password = "00000000";
-
-            conn = DriverManager.getConnection(url, user, password);
-            System.out.println("✅ 데이터베이스 연결 성공!");
-
         } catch (ClassNotFoundException e) {
             System.err.println("❌ MySQL JDBC 드라이버를 찾을 수 없습니다: " + e.getMessage());
             e.printStackTrace();
+            return;
+        }
+
+        // 연결에 실패해도 풀은 유지 - 이후 대여 시점/주기 작업에서 자동으로 재연결
+        pool = new ConnectionPool(config);
+        pool.start();
+
+        // 매치 결과는 클릭마다 저장하지 않고 모아서 백그라운드에서 배치 저장
+        // 저널 디렉토리가 설정되어 있으면 로컬 저널에 먼저 기록하고, DB가 살아 있을 때 재전송
+        if (config.getJournalDir() != null) {
+            try {
+                MatchJournal journal = new MatchJournal(Paths.get(config.getJournalDir()),
+                        config.getJournalFsyncPolicy(), config.getJournalFsyncIntervalMillis(),
+                        config.getJournalSegmentRecords());
+                journal.open();
+                journalReplayer = new MatchJournalReplayer(journal, pool, config.getJournalReplayIntervalMillis());
+                journalReplayer.start();
+                matchJournal = journal;
+                System.out.println("📒 매치 결과 저널 사용: " + config.getJournalDir()
+                        + " (fsync " + config.getJournalFsyncPolicy() + ")");
+            } catch (IOException e) {
+                System.err.println("❌ 저널을 열 수 없어 메모리 큐로 저장합니다: " + e.getMessage());
+            }
+        }
+        // 저널을 쓰는 경우에도 저널 기록이 실패한 결과를 받을 수 있도록 메모리 큐는 항상 준비
+        matchResultWriter = new MatchResultWriter(pool, config.getWriterQueueCapacity(),
+                config.getWriterBatchSize(), config.getWriterOfferTimeoutMillis());
+        // 종료할 때 DB에 저장하지 못한 결과는 저널로 넘겨 다음 실행에서 재전송
+        if (matchJournal != null) {
+            matchResultWriter.setOverflow(this::appendToJournal);
+        }
+        matchResultWriter.start();
+
+        try (Connection conn = pool.getConnection()) {
+            if (!conn.isValid(5)) {
+                throw new SQLException("커넥션이 응답하지 않습니다");
+            }
+            System.out.println("✅ 데이터베이스 연결 성공! (커넥션 풀 "
+                    + config.getPoolMinSize() + "~" + config.getPoolMaxSize() + ")");
         } catch (SQLException e) {
             System.err.println("❌ 데이터베이스 연결 실패: " + e.getMessage());
             System.err.println("   URL, 사용자명, 비밀번호를 확인하세요.");
@@ -54,21 +96,22 @@ public class JdbcManager implements DatabaseManager {
     public List<Category> getAllCategories() {
         List<Category> categories = new ArrayList<>();
         
-        if (conn == null) {
+        if (pool == null) {
             System.err.println("❌ 데이터베이스 연결이 없습니다.");
             return categories;
         }
         
         String sql = "SELECT category, COUNT(*) as count FROM contestant GROUP BY category";
 
-        try (Statement stmt = conn.createStatement();
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
             long id = 1L;
             while (rs.next()) {
                 String name = rs.getString("category");
                 int count = rs.getInt("count");
-                String imagePath = categoryImagePaths.getOrDefault(name, "images/categories/default.jpg");
+                String imagePath = categoryImagePath(name);
 
                 Category category = new Category(id++, name, imagePath);
                 category.setContestantCount(count);
@@ -87,14 +130,15 @@ public class JdbcManager implements DatabaseManager {
     public List<Contestant> getContestantsByCategory(String categoryName) {
         List<Contestant> contestants = new ArrayList<>();
         
-        if (conn == null) {
+        if (pool == null) {
             System.err.println("❌ 데이터베이스 연결이 없습니다.");
             return contestants;
         }
         
         String sql = "SELECT id, name, image_path FROM contestant WHERE category = ?";
 
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, categoryName);
             
             try (ResultSet rs = pstmt.executeQuery()) {
@@ -114,20 +158,87 @@ public class JdbcManager implements DatabaseManager {
         return contestants;
     }
 
+    /**
+     * 카테고리에서 무작위로 count명을 뽑습니다.
+     * 1) idx_category 인덱스만으로 id를 스트리밍하며 저장소 표본(reservoir)으로 count개를 고르고
+     * 2) 뽑힌 id의 행만 PK로 가져옵니다. ORDER BY RAND()와 달리 전체 행을 정렬/전송하지 않습니다.
+     */
+    @Override
+    public List<Contestant> getRandomContestants(String categoryName, int count) {
+        List<Contestant> contestants = new ArrayList<>();
+
+        if (pool == null) {
+            System.err.println("❌ 데이터베이스 연결이 없습니다.");
+            return contestants;
+        }
+        if (count <= 0) {
+            return contestants;
+        }
+
+        String idSql = "SELECT id FROM contestant WHERE category = ?";
+
+        try (Connection conn = pool.getConnection()) {
+            RandomSampler.LongReservoir reservoir = new RandomSampler.LongReservoir(count);
+
+            try (PreparedStatement pstmt = conn.prepareStatement(idSql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                pstmt.setFetchSize(Integer.MIN_VALUE); // 스트리밍 조회
+                pstmt.setString(1, categoryName);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        reservoir.offer(rs.getLong(1));
+                    }
+                }
+            }
+
+            long[] ids = reservoir.toArray();
+            if (ids.length == 0) {
+                return contestants;
+            }
+
+            StringBuilder rowSql = new StringBuilder("SELECT id, name, image_path FROM contestant WHERE id IN (");
+            for (int i = 0; i < ids.length; i++) {
+                rowSql.append(i == 0 ? "?" : ", ?");
+            }
+            rowSql.append(")");
+
+            try (PreparedStatement pstmt = conn.prepareStatement(rowSql.toString())) {
+                for (int i = 0; i < ids.length; i++) {
+                    pstmt.setLong(i + 1, ids[i]);
+                }
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        contestants.add(new Contestant(rs.getLong("id"), rs.getString("name"),
+                                rs.getString("image_path"), null));
+                    }
+                }
+            }
+
+            // IN 조회 결과는 PK 순서이므로 다시 섞음
+            Collections.shuffle(contestants);
+            System.out.println("🎲 " + categoryName + " 후보자 " + contestants.size() + "명 무작위 추출");
+        } catch (SQLException e) {
+            System.err.println("❌ 후보자 표본 조회 오류: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return contestants;
+    }
+
     @Override
     public Category getCategoryByName(String categoryName) {
-        if (conn == null) {
+        if (pool == null) {
             System.err.println("❌ 데이터베이스 연결이 없습니다.");
             return null;
         }
         
         String sql = "SELECT COUNT(*) as count FROM contestant WHERE category = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, categoryName);
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
                     int count = rs.getInt("count");
-                    String imagePath = categoryImagePaths.getOrDefault(categoryName, "images/categories/default.jpg");
+                    String imagePath = categoryImagePath(categoryName);
                     Category category = new Category(null, categoryName, imagePath);
                     category.setContestantCount(count);
                     return category;
@@ -140,16 +251,155 @@ public class JdbcManager implements DatabaseManager {
         return null;
     }
 
+    /**
+     * contestant 테이블 전체를 한 번의 스트리밍 조회로 읽어 카탈로그를 만듭니다.
+     * 조회가 끝까지 성공했을 때만 카탈로그를 만들고, 도중에 실패하면 빈 카탈로그를 반환합니다.
+     */
     @Override
-    public void close() {
-        try {
-            if (conn != null && !conn.isClosed()) {
-                conn.close();
-                System.out.println("✅ 데이터베이스 연결 종료");
+    public Catalog loadCatalog() {
+        List<Category> categories = new ArrayList<>();
+        Map<String, List<Contestant>> contestantsByCategory = new LinkedHashMap<>();
+
+        if (pool == null) {
+            System.err.println("❌ 데이터베이스 연결이 없습니다.");
+            return new Catalog(categories, contestantsByCategory);
+        }
+
+        String sql = "SELECT id, name, category, image_path FROM contestant ORDER BY category, id";
+
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            // MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍
+            stmt.setFetchSize(Integer.MIN_VALUE);
+
+            try (ResultSet rs = stmt.executeQuery(sql)) {
+                List<Contestant> current = null;
+                String currentName = null;
+                long categoryId = 0L;
+
+                while (rs.next()) {
+                    String categoryName = rs.getString("category");
+                    if (!categoryName.equals(currentName)) {
+                        currentName = categoryName;
+                        categoryId++;
+                        current = new ArrayList<>();
+                        contestantsByCategory.put(categoryName, current);
+                        String imagePath = categoryImagePath(categoryName);
+                        categories.add(new Category(categoryId, categoryName, imagePath));
+                    }
+                    current.add(new Contestant(rs.getLong("id"), rs.getString("name"),
+                            rs.getString("image_path"), categoryId));
+                }
+            }
+
+            for (Category category : categories) {
+                category.setContestantCount(contestantsByCategory.get(category.getName()).size());
+            }
+        } catch (SQLException e) {
+            // 중간에 끊긴 결과로 카탈로그를 만들면 잘린 목록이 계속 쓰이므로 빈 카탈로그를 반환
+            System.err.println("❌ 카탈로그 조회 오류: " + e.getMessage());
+            e.printStackTrace();
+            return new Catalog(new ArrayList<>(), new LinkedHashMap<>());
+        }
+
+        Catalog catalog = new Catalog(categories, contestantsByCategory);
+        System.out.println("📚 카탈로그 로드: 카테고리 " + categories.size() + "개, 후보자 "
+                + catalog.getContestantCount() + "명");
+        return catalog;
+    }
+
+    /**
+     * match_result 테이블 전체를 한 번의 스트리밍 조회로 읽어 기록 순서대로 전달합니다.
+     */
+    @Override
+    public void replayMatchResults(Consumer<MatchResult> consumer) {
+        if (pool == null) {
+            System.err.println("❌ 데이터베이스 연결이 없습니다.");
+            return;
+        }
+
+        String sql = "SELECT category, winner_id, loser_id, round_size, played_at FROM match_result ORDER BY id";
+        int count = 0;
+
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(Integer.MIN_VALUE);
+
+            try (ResultSet rs = stmt.executeQuery(sql)) {
+                while (rs.next()) {
+                    consumer.accept(new MatchResult(rs.getString("category"), rs.getLong("winner_id"),
+                            rs.getLong("loser_id"), rs.getInt("round_size"), rs.getTimestamp("played_at").getTime()));
+                    count++;
+                }
             }
         } catch (SQLException e) {
-            System.err.println("❌ 데이터베이스 연결 종료 오류: " + e.getMessage());
+            System.err.println("❌ 매치 결과 조회 오류: " + e.getMessage());
             e.printStackTrace();
         }
+        System.out.println("🏆 저장된 매치 결과 " + count + "건 집계");
+    }
+
+    /**
+     * 저널이 있으면 저널에, 없거나 기록에 실패하면 메모리 큐에 넣습니다.
+     * 큐가 가득 차 있으면 offerTimeoutMs 동안 대기하므로 EDT가 아닌 작업 스레드에서 호출해야 합니다.
+     */
+    @Override
+    public boolean recordMatchResult(MatchResult result) {
+        if (appendToJournal(result)) {
+            return true;
+        }
+
+        MatchResultWriter writer = matchResultWriter;
+        if (writer == null) {
+            System.err.println("❌ 데이터베이스 연결이 없어 매치 결과를 저장하지 못했습니다: " + result);
+            return false;
+        }
+        if (writer.submit(result)) {
+            return true;
+        }
+        // 큐가 가득 차 있으면 저널에 한 번 더 시도 (일시적인 디스크 오류였을 수 있음)
+        if (appendToJournal(result)) {
+            return true;
+        }
+        System.err.println("❌ 매치 결과를 저장하지 못했습니다: " + result);
+        return false;
+    }
+
+    private boolean appendToJournal(MatchResult result) {
+        MatchJournal journal = matchJournal;
+        if (journal == null) {
+            return false;
+        }
+        try {
+            journal.append(result);
+            return true;
+        } catch (IOException e) {
+            // 디스크 오류 등으로 저널에 못 쓰면 결과를 버리지 않고 메모리 큐로 넘김
+            System.err.println("⚠️  저널 기록 실패, 메모리 큐로 저장합니다: " + e.getMessage() + " - " + result);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        // 남은 매치 결과를 먼저 저장한 뒤 커넥션 풀 종료
+        // 메모리 큐에서 저장하지 못한 결과를 저널로 넘길 수 있도록 작성기를 저널보다 먼저 닫음
+        if (matchResultWriter != null) {
+            matchResultWriter.close();
+            matchResultWriter = null;
+        }
+        if (journalReplayer != null) {
+            journalReplayer.close();
+            journalReplayer = null;
+        }
+        if (matchJournal != null) {
+            matchJournal.close();
+            matchJournal = null;
+        }
+        if (pool != null) {
+            pool.close();
+            pool = null;
+            System.out.println("✅ 데이터베이스 연결 종료");
+        }
     }
 }
\ No newline at end of file
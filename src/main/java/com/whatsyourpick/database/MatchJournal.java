@@ -0,0 +1,358 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.MatchResult;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * 매치 결과를 로컬 디스크에 추가만 하는(append-only) 저널
+ * DB에 연결할 수 없어도 결과를 잃지 않도록, 클릭마다 작은 고정 크기 레코드를 세그먼트 파일에 덧붙입니다.
+ * 세그먼트가 가득 차거나 roll()이 호출되면 새 세그먼트로 넘어가고, 닫힌 세그먼트는
+ * MatchJournalReplayer가 DB로 보낸 뒤 삭제합니다.
+ *
+ * 레코드 형식 (96바이트, 빅엔디안):
+ * <pre>
+ * int crc32 (나머지 92바이트), long playedAt, long winnerId, long loserId, int round,
+ * short 카테고리 바이트 길이, byte[62] 카테고리 (UTF-8, 0으로 채움)
+ * </pre>
+ * 비정상 종료로 마지막 레코드가 잘리거나 깨지면 CRC 검사에서 걸러집니다.
+ * 레코드 크기가 고정이므로 중간 레코드 하나가 깨져도 그 레코드만 건너뛰고 이후 레코드는 그대로 읽습니다.
+ */
+public class MatchJournal implements AutoCloseable {
+
+    /**
+     * 디스크 동기화(fsync) 정책
+     */
+    public enum FsyncPolicy {
+        ALWAYS,    // 레코드마다 fsync - 가장 안전하지만 가장 느림
+        INTERVAL,  // 마지막 fsync 후 일정 시간이 지난 다음 기록 시, 그리고 세그먼트 전환/종료 시 fsync
+        NEVER      // OS에 맡김 (프로세스 비정상 종료는 안전, 전원 차단 시 유실 가능)
+    }
+
+    static final int RECORD_SIZE = 96;
+    private static final int CATEGORY_BYTES = 62;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String JOURNAL_ID_FILE = "journal.id";
+
+    private final Path directory;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalMillis;
+    private final int recordsPerSegment;
+
+    private final ByteBuffer recordBuffer = ByteBuffer.allocateDirect(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+
+    private String journalId;
+    private FileChannel active;
+    private Path activePath;
+    private long nextSequence;
+    private int activeRecords;
+    private long lastFsync;
+    private boolean unsynced;
+
+    /**
+     * @param directory 세그먼트 파일을 둘 디렉토리
+     * @param fsyncPolicy fsync 정책
+     * @param fsyncIntervalMillis INTERVAL 정책의 fsync 간격
+     * @param recordsPerSegment 세그먼트당 최대 레코드 수
+     */
+    public MatchJournal(Path directory, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis, int recordsPerSegment) {
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+        this.recordsPerSegment = recordsPerSegment;
+    }
+
+    /**
+     * 저널 디렉토리를 열고 새 활성 세그먼트를 만듭니다.
+     * 이전 실행에서 남은 세그먼트는 모두 닫힌 세그먼트로 취급되어 재전송 대상이 됩니다.
+     * 남은 세그먼트가 있으면 journal.id 파일의 저널 ID를 이어 쓰고, 없으면 세그먼트 순번이 1부터 다시 시작하므로
+     * 이미 전송된 (저널 ID, 순번)과 겹치지 않도록 새 저널 ID(UUID)를 만듭니다.
+     * @throws IOException 디렉토리/파일 생성 실패 시
+     */
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> existing = listSegments();
+        journalId = loadJournalId(existing.isEmpty());
+        nextSequence = existing.isEmpty() ? 1L : sequenceOf(existing.get(existing.size() - 1)) + 1;
+        if (!existing.isEmpty()) {
+            System.out.println("📒 재전송 대기 중인 저널 세그먼트 " + existing.size() + "개 발견");
+        }
+        openNewSegment();
+    }
+
+    /**
+     * 매치 결과를 저널에 추가합니다.
+     * 쓰기에 실패하면 일부만 쓰인 레코드를 잘라 내므로, 이후 레코드의 정렬이 어긋나지 않습니다.
+     * @param result 매치 결과
+     * @throws IOException 쓰기 실패 시 (레코드는 기록되지 않음)
+     */
+    public synchronized void append(MatchResult result) throws IOException {
+        if (active == null) {
+            throw new IOException("저널이 열려 있지 않습니다.");
+        }
+        byte[] category = (result.getCategory() != null ? result.getCategory() : "").getBytes(StandardCharsets.UTF_8);
+        if (category.length > CATEGORY_BYTES) {
+            throw new IOException("카테고리 이름이 너무 깁니다 (" + category.length + " bytes): " + result.getCategory());
+        }
+
+        recordBuffer.clear();
+        recordBuffer.putInt(0); // CRC 자리
+        recordBuffer.putLong(result.getPlayedAt());
+        recordBuffer.putLong(result.getWinnerId());
+        recordBuffer.putLong(result.getLoserId());
+        recordBuffer.putInt(result.getRound());
+        recordBuffer.putShort((short) category.length);
+        recordBuffer.put(category);
+        while (recordBuffer.position() < RECORD_SIZE) {
+            recordBuffer.put((byte) 0);
+        }
+
+        crc.reset();
+        recordBuffer.position(4);
+        crc.update(recordBuffer);
+        recordBuffer.putInt(0, (int) crc.getValue());
+        recordBuffer.flip();
+
+        try {
+            while (recordBuffer.hasRemaining()) {
+                active.write(recordBuffer);
+            }
+        } catch (IOException e) {
+            discardPartialRecord(e);
+            throw e;
+        }
+        activeRecords++;
+        unsynced = true;
+
+        long now = System.currentTimeMillis();
+        if (fsyncPolicy == FsyncPolicy.ALWAYS
+                || (fsyncPolicy == FsyncPolicy.INTERVAL && now - lastFsync >= fsyncIntervalMillis)) {
+            sync();
+        }
+        if (activeRecords >= recordsPerSegment) {
+            roll();
+        }
+    }
+
+    /**
+     * 활성 세그먼트에 레코드가 있으면 닫고 새 세그먼트로 넘어갑니다.
+     * @return 세그먼트를 넘겼으면 true
+     * @throws IOException 파일 오류 시
+     */
+    public synchronized boolean roll() throws IOException {
+        if (active == null || activeRecords == 0) {
+            return false;
+        }
+        closeActive();
+        openNewSegment();
+        return true;
+    }
+
+    /**
+     * 닫힌(재전송 가능한) 세그먼트 목록을 오래된 순서로 반환합니다.
+     * @return 세그먼트 파일 경로 목록
+     * @throws IOException 디렉토리 읽기 실패 시
+     */
+    public synchronized List<Path> sealedSegments() throws IOException {
+        List<Path> segments = listSegments();
+        segments.remove(activePath);
+        return segments;
+    }
+
+    /**
+     * 저널 ID를 반환합니다. (세그먼트 순번과 함께 DB에서 중복 전송을 막는 키)
+     * @return 저널 ID (open() 전이면 null)
+     */
+    public synchronized String getJournalId() {
+        return journalId;
+    }
+
+    /**
+     * 세그먼트를 읽은 결과 (유효한 레코드 + 손상 정보)
+     */
+    public static final class SegmentContents {
+        private final List<MatchResult> results;
+        private final int corruptRecords;
+        private final int trailingBytes;
+
+        SegmentContents(List<MatchResult> results, int corruptRecords, int trailingBytes) {
+            this.results = results;
+            this.corruptRecords = corruptRecords;
+            this.trailingBytes = trailingBytes;
+        }
+
+        public List<MatchResult> getResults() {
+            return results;
+        }
+
+        public int getCorruptRecords() {
+            return corruptRecords;
+        }
+
+        public int getTrailingBytes() {
+            return trailingBytes;
+        }
+
+        /**
+         * 손상된 레코드도, 잘린 꼬리도 없는지 확인합니다.
+         */
+        public boolean isClean() {
+            return corruptRecords == 0 && trailingBytes == 0;
+        }
+    }
+
+    /**
+     * 세그먼트 파일의 레코드를 읽습니다.
+     * CRC가 맞지 않는 레코드는 건너뛰고 다음 레코드부터 계속 읽으며, 레코드 하나보다 짧은 꼬리(잘린 마지막 레코드)는 무시합니다.
+     * @param segment 세그먼트 파일
+     * @return 유효한 매치 결과와 손상 정보
+     * @throws IOException 읽기 실패 시
+     */
+    public static SegmentContents readSegment(Path segment) throws IOException {
+        List<MatchResult> results = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+        CRC32 check = new CRC32();
+        int corrupt = 0;
+
+        while (buffer.remaining() >= RECORD_SIZE) {
+            int start = buffer.position();
+            int storedCrc = buffer.getInt();
+
+            check.reset();
+            check.update(buffer.array(), start + 4, RECORD_SIZE - 4);
+            if ((int) check.getValue() != storedCrc) {
+                System.err.println("⚠️  저널 레코드 손상, 이 레코드만 건너뜁니다: " + segment + " @" + start);
+                corrupt++;
+                buffer.position(start + RECORD_SIZE);
+                continue;
+            }
+
+            long playedAt = buffer.getLong();
+            long winnerId = buffer.getLong();
+            long loserId = buffer.getLong();
+            int round = buffer.getInt();
+            int categoryLength = buffer.getShort();
+            String category = new String(buffer.array(), buffer.position(), categoryLength, StandardCharsets.UTF_8);
+            buffer.position(start + RECORD_SIZE);
+
+            results.add(new MatchResult(category.isEmpty() ? null : category, winnerId, loserId, round, playedAt));
+        }
+        if (buffer.hasRemaining()) {
+            System.err.println("⚠️  저널 세그먼트 끝이 잘려 있습니다 (" + buffer.remaining() + " bytes): " + segment);
+        }
+        return new SegmentContents(results, corrupt, buffer.remaining());
+    }
+
+    /**
+     * 저널을 닫습니다. 아직 fsync하지 않은 레코드를 디스크에 기록합니다.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            closeActive();
+        } catch (IOException e) {
+            System.err.println("❌ 저널 종료 오류: " + e.getMessage());
+        }
+    }
+
+    private void sync() throws IOException {
+        active.force(false);
+        lastFsync = System.currentTimeMillis();
+        unsynced = false;
+    }
+
+    private void openNewSegment() throws IOException {
+        activePath = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSequence++, SEGMENT_SUFFIX));
+        active = FileChannel.open(activePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        activeRecords = 0;
+        lastFsync = System.currentTimeMillis();
+    }
+
+    /**
+     * 쓰다 만 레코드를 활성 세그먼트에서 잘라 냅니다.
+     * 잘라 내지 못하면 그 세그먼트를 닫고 새 세그먼트로 넘어가, 다음 레코드가 어긋난 위치에 쓰이지 않게 합니다.
+     * (닫힌 세그먼트의 잘린 꼬리는 재전송 때 걸러짐)
+     */
+    private void discardPartialRecord(IOException cause) {
+        try {
+            active.truncate((long) activeRecords * RECORD_SIZE);
+            return;
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+        try {
+            active.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+        active = null;
+        activePath = null;
+        try {
+            openNewSegment();
+        } catch (IOException e) {
+            // 새 세그먼트도 못 만들면 저널은 닫힌 상태로 남고, 이후 기록은 메모리 큐로 넘어감
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void closeActive() throws IOException {
+        if (active == null) {
+            return;
+        }
+        if (unsynced && fsyncPolicy != FsyncPolicy.NEVER) {
+            sync();
+        }
+        active.close();
+        active = null;
+
+        // 빈 세그먼트는 남기지 않음
+        if (activeRecords == 0) {
+            Files.deleteIfExists(activePath);
+        }
+        activePath = null;
+    }
+
+    private String loadJournalId(boolean renew) throws IOException {
+        Path idFile = directory.resolve(JOURNAL_ID_FILE);
+        if (!renew && Files.exists(idFile)) {
+            return new String(Files.readAllBytes(idFile), StandardCharsets.UTF_8).trim();
+        }
+        // 임시 파일에 쓴 뒤 이름을 바꿔, 중간에 죽어도 반쯤 쓰인 ID가 남지 않게 함
+        String id = UUID.randomUUID().toString();
+        Path temp = directory.resolve(JOURNAL_ID_FILE + ".tmp");
+        Files.write(temp, id.getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, idFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return id;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                segments.add(path);
+            }
+        }
+        // 순번이 0으로 채워져 있어 이름 순서 = 기록 순서
+        segments.sort(null);
+        return segments;
+    }
+
+    static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
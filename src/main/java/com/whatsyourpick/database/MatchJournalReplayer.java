@@ -0,0 +1,154 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.MatchResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저널의 닫힌 세그먼트를 주기적으로 DB에 보내는 재전송기
+ * 세그먼트 하나를 하나의 트랜잭션으로 배치 INSERT하고, 커밋되면 세그먼트 파일을 삭제합니다.
+ * 같은 트랜잭션에서 (저널 ID, 세그먼트 순번)을 match_journal_segment에 기록하므로, 커밋 직후 삭제 전에
+ * 프로세스가 죽어 세그먼트를 다시 보내더라도 이미 기록된 세그먼트는 건너뛰어 승리가 두 번 집계되지 않습니다.
+ * 손상된 레코드나 잘린 꼬리가 있던 세그먼트는 유효한 레코드를 보낸 뒤 삭제하지 않고 *.corrupt 로 옮겨 둡니다.
+ * DB에 연결할 수 없으면 세그먼트를 그대로 두고 다음 주기에 다시 시도합니다.
+ */
+public class MatchJournalReplayer implements AutoCloseable {
+
+    static final String CLAIM_SQL =
+            "INSERT IGNORE INTO match_journal_segment (journal_id, segment_seq, record_count) VALUES (?, ?, ?)";
+
+    private final MatchJournal journal;
+    private final ConnectionPool pool;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param journal 매치 결과 저널
+     * @param pool 커넥션 풀
+     * @param intervalMillis 재전송 주기
+     */
+    public MatchJournalReplayer(MatchJournal journal, ConnectionPool pool, long intervalMillis) {
+        this.journal = journal;
+        this.pool = pool;
+        this.intervalMillis = intervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "match-journal-replayer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 주기적인 재전송을 시작합니다. (시작 직후 이전 실행의 세그먼트부터 전송)
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::replayQuietly, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 활성 세그먼트를 닫고, 닫힌 세그먼트를 오래된 순서로 DB에 보냅니다.
+     * @return 전송한 매치 결과 수
+     * @throws IOException 저널 파일 오류 시
+     * @throws SQLException DB 저장 실패 시 (실패한 세그먼트와 그 이후 세그먼트는 남음)
+     */
+    public int replay() throws IOException, SQLException {
+        journal.roll();
+
+        int shipped = 0;
+        for (Path segment : journal.sealedSegments()) {
+            MatchJournal.SegmentContents contents = MatchJournal.readSegment(segment);
+            List<MatchResult> results = contents.getResults();
+            if (!results.isEmpty()) {
+                try (Connection conn = pool.getConnection()) {
+                    if (!ship(conn, MatchJournal.sequenceOf(segment), results)) {
+                        System.out.println("⏭️  이미 전송된 저널 세그먼트를 건너뜁니다: " + segment.getFileName());
+                        results = List.of();
+                    }
+                }
+            }
+            if (contents.isClean()) {
+                Files.delete(segment);
+            } else {
+                quarantine(segment, contents);
+            }
+            shipped += results.size();
+        }
+        if (shipped > 0) {
+            System.out.println("📤 저널에서 매치 결과 " + shipped + "건 전송 완료");
+        }
+        return shipped;
+    }
+
+    /**
+     * 세그먼트를 처음 보내는 경우에만 결과를 INSERT 합니다. (세그먼트 기록과 결과 INSERT가 한 트랜잭션)
+     * @return 결과를 넣었으면 true, 이미 전송된 세그먼트라 건너뛰었으면 false
+     */
+    private boolean ship(Connection conn, long segmentSequence, List<MatchResult> results) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (PreparedStatement claim = conn.prepareStatement(CLAIM_SQL)) {
+            claim.setString(1, journal.getJournalId());
+            claim.setLong(2, segmentSequence);
+            claim.setInt(3, results.size());
+            if (claim.executeUpdate() == 0) {
+                conn.rollback();
+                return false;
+            }
+            MatchResultWriter.insertRows(conn, results);
+            conn.commit();
+            return true;
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * 깨끗하지 않은 세그먼트를 재전송 대상(*.seg)에서 빼고 확인용으로 남겨 둡니다.
+     */
+    private static void quarantine(Path segment, MatchJournal.SegmentContents contents) throws IOException {
+        Path target = segment.resolveSibling(segment.getFileName() + ".corrupt");
+        Files.move(segment, target, StandardCopyOption.REPLACE_EXISTING);
+        System.err.println("⚠️  손상 레코드 " + contents.getCorruptRecords() + "개, 잘린 꼬리 "
+                + contents.getTrailingBytes() + " bytes - 유효한 " + contents.getResults().size()
+                + "건은 전송하고 세그먼트를 보관합니다: " + target);
+    }
+
+    private void replayQuietly() {
+        try {
+            replay();
+        } catch (SQLException e) {
+            System.err.println("⚠️  저널 재전송 실패 (다음 주기에 재시도): " + e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ 저널 재전송 오류: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 주기 작업을 멈추고 마지막으로 한 번 전송을 시도합니다.
+     * 전송하지 못한 세그먼트는 다음 실행 때 전송됩니다.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        replayQuietly();
+    }
+}
@@ -0,0 +1,234 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.MatchResult;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 매치 결과를 모아서 백그라운드에서 저장하는 write-behind 작성기
+ * 클릭마다 DB를 왕복하지 않도록 결과를 크기가 제한된 큐에 넣고, 작성 스레드가 JDBC 배치 INSERT로 저장합니다.
+ * DB가 느려 큐가 가득 차면 submit()이 잠시 대기해 생산 속도를 늦춥니다. (back-pressure)
+ * submit()은 대기할 수 있으므로 Swing EDT가 아닌 작업 스레드에서 호출해야 합니다. (AsyncDatabaseManager.recordMatchResult)
+ * 종료할 때 저장하지 못한 결과는 버리지 않고 넘침 처리기(예: 저널)로 넘깁니다.
+ */
+public class MatchResultWriter implements AutoCloseable {
+
+    static final String INSERT_SQL =
+            "INSERT INTO match_result (category, winner_id, loser_id, round_size, played_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final long RETRY_DELAY_MILLIS = 1_000L;
+    private static final long MAX_RETRY_DELAY_MILLIS = 30_000L;
+
+    private final ConnectionPool pool;
+    private final BlockingQueue<MatchResult> queue;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final Thread worker;
+    private final CountDownLatch stopSignal = new CountDownLatch(1);
+    private final List<MatchResult> batch;
+    private volatile boolean running = true;
+    private volatile Predicate<MatchResult> overflow;
+
+    /**
+     * @param pool 커넥션 풀
+     * @param capacity 큐 최대 크기
+     * @param batchSize 한 번에 INSERT할 최대 행 수
+     * @param offerTimeoutMillis 큐가 가득 찼을 때 submit()이 기다리는 최대 시간
+     */
+    public MatchResultWriter(ConnectionPool pool, int capacity, int batchSize, long offerTimeoutMillis) {
+        this.pool = pool;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.batch = new ArrayList<>(batchSize);
+        this.worker = new Thread(this::run, "match-result-writer");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * 종료할 때 DB에 저장하지 못한 결과를 넘길 처리기를 설정합니다.
+     * @param overflow 결과를 보관했으면 true를 반환하는 함수 (예: 저널 기록)
+     */
+    public void setOverflow(Predicate<MatchResult> overflow) {
+        this.overflow = overflow;
+    }
+
+    /**
+     * 작성 스레드를 시작합니다.
+     */
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * 매치 결과를 저장 큐에 넣습니다.
+     * 큐가 가득 차 있으면 최대 offerTimeoutMillis 동안 기다립니다.
+     * @param result 매치 결과
+     * @return 큐에 들어갔으면 true, 종료되었거나 시간 안에 자리가 나지 않으면 false (결과 처리는 호출한 쪽 책임)
+     */
+    public boolean submit(MatchResult result) {
+        if (!running) {
+            return false;
+        }
+        try {
+            if (queue.offer(result, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            System.err.println("⚠️  매치 결과 큐가 " + offerTimeoutMillis + "ms 동안 가득 차 있습니다: " + result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * 저장 대기 중인 결과 수를 반환합니다.
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    private void run() {
+        long retryDelay = RETRY_DELAY_MILLIS;
+
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    MatchResult first = queue.poll(500, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+
+                try (Connection conn = pool.getConnection()) {
+                    insertBatch(conn, batch);
+                }
+                batch.clear();
+                retryDelay = RETRY_DELAY_MILLIS;
+            } catch (SQLException e) {
+                if (!running) {
+                    // 종료 중에는 재시도하지 않고, 남은 결과는 close()가 넘침 처리기로 넘김
+                    System.err.println("❌ 매치 결과 " + (batch.size() + queue.size()) + "건 저장 실패 (종료 중): "
+                            + e.getMessage());
+                    break;
+                }
+                // 실패한 배치는 유지하고 재시도 - 그동안 큐가 차면 submit()이 대기, close()가 호출되면 바로 깨어남
+                System.err.println("❌ 매치 결과 저장 실패, " + retryDelay + "ms 후 재시도: " + e.getMessage());
+                if (awaitStop(retryDelay)) {
+                    System.out.println("💾 종료 요청 - 남은 매치 결과 저장을 한 번 더 시도합니다.");
+                }
+                retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    /**
+     * 매치 결과 목록을 하나의 트랜잭션에서 배치 INSERT 합니다.
+     * @param conn 커넥션
+     * @param results 저장할 결과
+     * @throws SQLException 저장 실패 시 (트랜잭션은 롤백됨)
+     */
+    static void insertBatch(Connection conn, List<MatchResult> results) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            insertRows(conn, results);
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * 매치 결과 목록을 배치 INSERT 합니다. 트랜잭션은 호출한 쪽에서 관리합니다.
+     * @param conn 커넥션
+     * @param results 저장할 결과
+     * @throws SQLException 저장 실패 시
+     */
+    static void insertRows(Connection conn, List<MatchResult> results) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+            for (MatchResult result : results) {
+                pstmt.setString(1, result.getCategory());
+                pstmt.setLong(2, result.getWinnerId());
+                pstmt.setLong(3, result.getLoserId());
+                pstmt.setInt(4, result.getRound());
+                pstmt.setTimestamp(5, new Timestamp(result.getPlayedAt()));
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * 재시도 전까지 기다립니다. close()가 호출되면 바로 반환합니다.
+     * @return 종료 요청으로 깨어났으면 true
+     */
+    private boolean awaitStop(long millis) {
+        try {
+            return stopSignal.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+
+    /**
+     * 새 결과를 더 받지 않고, 큐에 남은 결과를 모두 저장한 뒤 종료합니다.
+     * 재시도 대기 중이면 바로 깨워 마지막으로 한 번 더 저장하고, 그래도 남은 결과는 넘침 처리기로 넘깁니다.
+     * 최대 10초까지 기다립니다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        stopSignal.countDown();
+        try {
+            worker.join(10_000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<MatchResult> remaining = new ArrayList<>();
+        if (!worker.isAlive()) {
+            remaining.addAll(batch);
+            batch.clear();
+        }
+        queue.drainTo(remaining);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        Predicate<MatchResult> handler = overflow;
+        int lost = 0;
+        for (MatchResult result : remaining) {
+            if (handler == null || !handler.test(result)) {
+                System.err.println("❌ 저장하지 못한 매치 결과: " + result);
+                lost++;
+            }
+        }
+        if (lost == 0) {
+            System.out.println("📒 저장하지 못한 매치 결과 " + remaining.size() + "건을 넘침 처리기로 보관했습니다.");
+        } else {
+            System.err.println("⚠️  매치 결과 " + lost + "건을 저장하지 못하고 종료합니다.");
+        }
+        if (worker.isAlive()) {
+            System.err.println("⚠️  작성 스레드가 아직 저장 중인 배치는 확인하지 못했습니다.");
+        }
+    }
+}
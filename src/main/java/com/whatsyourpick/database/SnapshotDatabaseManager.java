@@ -0,0 +1,77 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.Category;
+import com.whatsyourpick.model.Contestant;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 스냅샷 파일을 사용하는 DatabaseManager 구현
+ * MySQL 서버가 없는 키오스크나 벤치마크 환경에서 사용합니다.
+ * 파일은 메모리 매핑으로 열고, 후보자는 조회 시점에 필요한 레코드만 읽습니다.
+ * 스냅샷은 CatalogSnapshotWriter로 SQL 스크립트나 MySQL에서 만들 수 있습니다.
+ */
+public class SnapshotDatabaseManager implements DatabaseManager {
+
+    private final Path snapshotFile;
+    private volatile CatalogSnapshotReader reader;
+
+    /**
+     * @param snapshotFile 스냅샷 파일 경로
+     */
+    public SnapshotDatabaseManager(Path snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    @Override
+    public void initialize() {
+        long start = System.nanoTime();
+        try {
+            reader = CatalogSnapshotReader.open(snapshotFile);
+            System.out.println("✅ 스냅샷 로드 성공: " + snapshotFile + " (후보자 " + reader.getContestantCount()
+                    + "명, " + (System.nanoTime() - start) / 1_000_000 + "ms)");
+        } catch (IOException e) {
+            System.err.println("❌ 스냅샷 로드 실패: " + e.getMessage());
+            System.err.println("   CatalogSnapshotWriter로 스냅샷 파일을 먼저 만드세요.");
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public List<Category> getAllCategories() {
+        CatalogSnapshotReader current = reader;
+        return current != null ? current.getCategories() : List.of();
+    }
+
+    @Override
+    public List<Contestant> getContestantsByCategory(String categoryName) {
+        CatalogSnapshotReader current = reader;
+        return current != null ? current.getContestants(categoryName) : List.of();
+    }
+
+    @Override
+    public List<Contestant> getRandomContestants(String categoryName, int count) {
+        CatalogSnapshotReader current = reader;
+        return current != null ? current.getRandomContestants(categoryName, count) : List.of();
+    }
+
+    @Override
+    public Category getCategoryByName(String categoryName) {
+        CatalogSnapshotReader current = reader;
+        return current != null ? current.getCategory(categoryName) : null;
+    }
+
+    @Override
+    public Catalog loadCatalog() {
+        CatalogSnapshotReader current = reader;
+        return current != null ? current.toCatalog() : new Catalog(List.of(), Map.of());
+    }
+
+    @Override
+    public void close() {
+        reader = null;
+    }
+}
@@ -0,0 +1,229 @@
+package com.whatsyourpick.database;
+
+import com.whatsyourpick.model.Category;
+import com.whatsyourpick.model.Contestant;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * db/schema.sql과 db/insert_data.sql을 읽어 카탈로그를 만드는 파서
+ * MySQL 없이 스냅샷 파일을 만들 때 사용합니다.
+ * id는 빈 테이블에 스크립트를 실행했을 때의 AUTO_INCREMENT 값(1부터 순서대로)과 같게 부여합니다.
+ */
+public class SqlCatalogParser {
+
+    private static final Pattern CATEGORY_ENUM = Pattern.compile(
+            "\\bcategory\\s+ENUM\\s*\\(([^)]*)\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern QUOTED = Pattern.compile("'((?:[^'\\\\]|\\\\.|'')*)'");
+    private static final Pattern INSERT_HEADER = Pattern.compile(
+            "^INSERT\\s+INTO\\s+contestant\\s*\\(([^)]*)\\)\\s*VALUES\\s*", Pattern.CASE_INSENSITIVE);
+
+    private SqlCatalogParser() {
+    }
+
+    /**
+     * SQL 스크립트로부터 카탈로그를 만듭니다.
+     * @param schemaFile schema.sql 경로 (category ENUM 순서로 카테고리 순서를 정함)
+     * @param dataFile insert_data.sql 경로
+     * @return 카탈로그
+     * @throws IOException 파일을 읽을 수 없을 때
+     * @throws IllegalArgumentException 스크립트 형식이 잘못되었거나 ENUM에 없는 카테고리가 있을 때
+     */
+    public static Catalog parse(Path schemaFile, Path dataFile) throws IOException {
+        String schema = Files.readString(schemaFile, StandardCharsets.UTF_8);
+        String data = Files.readString(dataFile, StandardCharsets.UTF_8);
+
+        // 1. 스키마의 ENUM 정의에서 카테고리 목록과 순서를 읽음
+        Map<String, List<Contestant>> contestantsByCategory = new LinkedHashMap<>();
+        for (String category : parseCategories(schema)) {
+            contestantsByCategory.put(category, new ArrayList<>());
+        }
+
+        // 2. INSERT 문의 행을 순서대로 읽음
+        long nextId = 1L;
+        Set<String> uniqueKeys = new HashSet<>();
+        for (String statement : splitStatements(data)) {
+            Matcher header = INSERT_HEADER.matcher(statement);
+            if (!header.find()) {
+                continue;
+            }
+            List<String> columns = new ArrayList<>();
+            for (String column : header.group(1).split(",")) {
+                columns.add(column.trim().toLowerCase());
+            }
+            int nameIndex = columns.indexOf("name");
+            int categoryIndex = columns.indexOf("category");
+            int imagePathIndex = columns.indexOf("image_path");
+            if (nameIndex < 0 || categoryIndex < 0 || imagePathIndex < 0) {
+                throw new IllegalArgumentException("name, category, image_path 컬럼이 필요합니다: " + header.group(1));
+            }
+
+            for (List<String> row : parseTuples(statement.substring(header.end()))) {
+                if (row.size() != columns.size()) {
+                    throw new IllegalArgumentException("컬럼 수와 값의 수가 다릅니다: " + row);
+                }
+                String name = row.get(nameIndex);
+                String category = row.get(categoryIndex);
+                List<Contestant> list = contestantsByCategory.get(category);
+                if (list == null) {
+                    throw new IllegalArgumentException("ENUM에 없는 카테고리입니다: " + category);
+                }
+                if (!uniqueKeys.add(category + "\u0000" + name)) {
+                    throw new IllegalArgumentException("중복된 후보자입니다 (uq_name_category): " + category + "/" + name);
+                }
+                list.add(new Contestant(nextId++, name, row.get(imagePathIndex), null));
+            }
+        }
+
+        // 3. 후보자가 있는 카테고리만 카탈로그에 포함
+        List<Category> categories = new ArrayList<>();
+        Map<String, List<Contestant>> nonEmpty = new LinkedHashMap<>();
+        long categoryId = 1L;
+        for (Map.Entry<String, List<Contestant>> entry : contestantsByCategory.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            Category category = new Category(categoryId, entry.getKey(), JdbcManager.categoryImagePath(entry.getKey()));
+            category.setContestantCount(entry.getValue().size());
+            for (Contestant contestant : entry.getValue()) {
+                contestant.setCategoryId(categoryId);
+            }
+            categories.add(category);
+            nonEmpty.put(entry.getKey(), entry.getValue());
+            categoryId++;
+        }
+        return new Catalog(categories, nonEmpty);
+    }
+
+    /**
+     * schema.sql의 contestant.category ENUM 정의에서 카테고리 목록을 순서대로 읽습니다.
+     * @param schema schema.sql 내용
+     * @return 카테고리 이름 목록
+     * @throws IllegalArgumentException ENUM 정의가 없을 때
+     */
+    static List<String> parseCategories(String schema) {
+        Matcher enumMatcher = CATEGORY_ENUM.matcher(schema);
+        if (!enumMatcher.find()) {
+            throw new IllegalArgumentException("schema.sql에서 category ENUM 정의를 찾을 수 없습니다.");
+        }
+        List<String> categories = new ArrayList<>();
+        Matcher quoted = QUOTED.matcher(enumMatcher.group(1));
+        while (quoted.find()) {
+            categories.add(unquote(quoted.group(1)));
+        }
+        return categories;
+    }
+
+    /**
+     * 문자열 리터럴과 주석을 고려해 스크립트를 ';' 단위 문장으로 나눕니다.
+     */
+    private static List<String> splitStatements(String sql) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inString = false;
+
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (inString) {
+                current.append(c);
+                if (c == '\\' && i + 1 < sql.length()) {
+                    current.append(sql.charAt(++i));
+                } else if (c == '\'') {
+                    if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                        current.append(sql.charAt(++i));
+                    } else {
+                        inString = false;
+                    }
+                }
+            } else if (c == '-' && i + 1 < sql.length() && sql.charAt(i + 1) == '-') {
+                // 한 줄 주석은 줄 끝까지 건너뜀
+                while (i < sql.length() && sql.charAt(i) != '\n') {
+                    i++;
+                }
+                current.append('\n');
+            } else if (c == ';') {
+                statements.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                if (c == '\'') {
+                    inString = true;
+                }
+                current.append(c);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    /**
+     * VALUES 뒤의 (…), (…) 목록을 파싱합니다. 값은 문자열 리터럴만 지원합니다.
+     */
+    private static List<List<String>> parseTuples(String values) {
+        List<List<String>> rows = new ArrayList<>();
+        int i = 0;
+        int length = values.length();
+
+        while (i < length) {
+            char c = values.charAt(i);
+            if (c != '(') {
+                if (!Character.isWhitespace(c) && c != ',') {
+                    throw new IllegalArgumentException("잘못된 VALUES 형식: " + values.substring(i, Math.min(length, i + 40)));
+                }
+                i++;
+                continue;
+            }
+
+            List<String> row = new ArrayList<>();
+            i++;
+            while (i < length && values.charAt(i) != ')') {
+                char v = values.charAt(i);
+                if (v == '\'') {
+                    StringBuilder value = new StringBuilder();
+                    i++;
+                    while (i < length) {
+                        char s = values.charAt(i);
+                        if (s == '\\' && i + 1 < length) {
+                            value.append(values.charAt(i + 1));
+                            i += 2;
+                        } else if (s == '\'' && i + 1 < length && values.charAt(i + 1) == '\'') {
+                            value.append('\'');
+                            i += 2;
+                        } else if (s == '\'') {
+                            i++;
+                            break;
+                        } else {
+                            value.append(s);
+                            i++;
+                        }
+                    }
+                    row.add(value.toString());
+                } else if (Character.isWhitespace(v) || v == ',') {
+                    i++;
+                } else {
+                    throw new IllegalArgumentException("문자열이 아닌 값은 지원하지 않습니다: "
+                            + values.substring(i, Math.min(length, i + 40)));
+                }
+            }
+            i++; // ')'
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static String unquote(String literal) {
+        return literal.replace("''", "'").replace("\\'", "'");
+    }
+}
@@ -0,0 +1,210 @@
+package com.whatsyourpick.game;
+
+import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.model.MatchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * int 배열 하나로 대진표를 표현하는 토너먼트 엔진
+ * 대진표는 암시적 이진 트리입니다. 참가자 n명을 담는 2의 거듭제곱 p(>= n)를 잡으면 첫 라운드 노드는 [p/2, p)이고,
+ * 매치 노드 m의 승자는 두 자식 bracket[2m], bracket[2m+1] 중 하나로 bracket[m]에 바로 기록됩니다.
+ * n이 2의 거듭제곱이 아니면 첫 라운드 앞쪽 n - p/2개 노드만 매치를 치르고, 나머지 노드에는 부전승 참가자를 미리 기록해 둡니다.
+ * 이후 라운드는 노드 [p/2^k, p/2^(k-1)) 구간이며 왼쪽부터 진행하므로 TournamentManager와 대진 순서가 같습니다.
+ * 배열은 초기화할 때 필요한 만큼만 늘리고 재사용하므로, 매치 진행(selectWinner)에는 할당이 없습니다.
+ * (매치 결과 리스너가 있으면 결과 객체만 만듭니다)
+ * 스레드 안전하지 않으므로 세션마다 인스턴스를 하나씩 사용합니다.
+ */
+public class ArrayTournamentManager implements TournamentEngine {
+
+    private Contestant[] entrants = new Contestant[0]; // 참가자 (섞인 순서, 앞에서 size명 사용)
+    private int[] bracket = new int[0];                // 대진표 트리 (노드 -> 참가자 번호)
+    private int size;                                  // 참가자 수 (0이면 시작 전)
+    private int roundSize;                             // 현재 라운드 인원 (부전승 포함)
+    private int roundStart;                            // 현재 라운드 첫 노드 (= 라운드 노드 수)
+    private int roundEnd;                              // 현재 라운드 마지막 매치 노드 + 1 (이후 노드는 부전승)
+    private int node;                                  // 현재 매치 노드 (0이면 우승자 결정)
+    private String categoryName;
+    private Consumer<MatchResult> matchResultListener;
+
+    @Override
+    public void initializeTournament(List<Contestant> contestants, int size) {
+        initializeTournament(null, contestants, size);
+    }
+
+    /**
+     * 카테고리 이름과 함께 토너먼트를 초기화합니다.
+     * 참가자 수는 규모와 후보자 수 중 작은 값이며, 2의 거듭제곱이 아니면 첫 라운드에 부전승이 생깁니다.
+     */
+    @Override
+    public void initializeTournament(String categoryName, List<Contestant> contestants, int size) {
+        this.categoryName = categoryName;
+
+        int available = contestants.size();
+        if (entrants.length < available) {
+            entrants = new Contestant[available];
+        }
+        for (int i = 0; i < available; i++) {
+            entrants[i] = contestants.get(i);
+        }
+
+        this.size = Math.max(0, Math.min(size, available));
+
+        // 앞쪽 size명만 무작위로 뽑음 (부분 Fisher-Yates)
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < this.size; i++) {
+            int j = i + random.nextInt(available - i);
+            Contestant tmp = entrants[i];
+            entrants[i] = entrants[j];
+            entrants[j] = tmp;
+        }
+        Arrays.fill(entrants, this.size, available, null);
+
+        // 참가자가 한 명 이하면 매치 없이 끝남 (node 0)
+        roundSize = this.size;
+        if (this.size < 2) {
+            roundStart = 0;
+            roundEnd = 0;
+            node = 0;
+            return;
+        }
+
+        int leaves = Integer.highestOneBit(this.size - 1) * 2; // size 이상인 가장 작은 2의 거듭제곱
+        int matches = TournamentEngine.firstRoundMatches(this.size);
+        if (bracket.length < leaves * 2) {
+            bracket = new int[leaves * 2];
+        }
+        roundStart = leaves / 2;
+        roundEnd = roundStart + matches;
+
+        // 앞쪽 매치 노드의 자식에 참가자 0 .. 2*matches-1, 뒤쪽 노드에는 나머지 참가자를 부전승으로 기록
+        for (int i = 0; i < matches * 2; i++) {
+            bracket[leaves + i] = i;
+        }
+        for (int m = roundEnd; m < leaves; m++) {
+            bracket[m] = matches * 2 + (m - roundEnd);
+        }
+        node = roundStart;
+    }
+
+    @Override
+    public Contestant getLeftContestant() {
+        return node == 0 ? null : entrants[bracket[node * 2]];
+    }
+
+    @Override
+    public Contestant getRightContestant() {
+        return node == 0 ? null : entrants[bracket[node * 2 + 1]];
+    }
+
+    /**
+     * 현재 매치 이후에 등장할 후보자를 등장 순서대로 반환합니다.
+     * 현재 라운드의 남은 매치 후보자, 이미 다음 라운드에 진출한 후보자, 부전승 후보자 순서입니다.
+     */
+    @Override
+    public List<Contestant> getUpcomingContestants(int maxCount) {
+        List<Contestant> upcoming = new ArrayList<>(maxCount);
+        if (node == 0) {
+            return upcoming;
+        }
+        for (int m = node + 1; m < roundEnd && upcoming.size() < maxCount; m++) {
+            upcoming.add(entrants[bracket[m * 2]]);
+            if (upcoming.size() < maxCount) {
+                upcoming.add(entrants[bracket[m * 2 + 1]]);
+            }
+        }
+        for (int m = roundStart; m < node && upcoming.size() < maxCount; m++) {
+            upcoming.add(entrants[bracket[m]]);
+        }
+        for (int m = roundEnd; m < roundStart * 2 && upcoming.size() < maxCount; m++) {
+            upcoming.add(entrants[bracket[m]]);
+        }
+        return upcoming;
+    }
+
+    /**
+     * 승자를 선택하고 다음 매치로 진행합니다.
+     * @param winner 현재 매치의 왼쪽 또는 오른쪽 후보자
+     * @return 토너먼트가 계속 진행되면 true, 우승자가 결정되면 false
+     * @throws IllegalStateException 진행 중인 매치가 없을 때
+     * @throws IllegalArgumentException 현재 매치의 후보자가 아닐 때
+     */
+    @Override
+    public boolean selectWinner(Contestant winner) {
+        if (node == 0) {
+            throw new IllegalStateException("진행 중인 매치가 없습니다.");
+        }
+        int left = bracket[node * 2];
+        int right = bracket[node * 2 + 1];
+        int winnerIndex;
+        int loserIndex;
+        if (winner == entrants[left]) {
+            winnerIndex = left;
+            loserIndex = right;
+        } else if (winner == entrants[right]) {
+            winnerIndex = right;
+            loserIndex = left;
+        } else {
+            throw new IllegalArgumentException("현재 매치의 후보자가 아닙니다: " + winner);
+        }
+
+        if (matchResultListener != null) {
+            matchResultListener.accept(new MatchResult(categoryName, entrants[winnerIndex].getId(),
+                    entrants[loserIndex].getId(), roundSize, System.currentTimeMillis()));
+        }
+        bracket[node] = winnerIndex;
+        node++;
+
+        // 현재 라운드의 모든 매치가 끝나면 한 단계 위 라운드로 (첫 라운드 이후에는 부전승 없음)
+        if (node == roundEnd) {
+            roundSize = roundStart;
+            roundStart /= 2;
+            roundEnd = roundStart * 2;
+            node = roundStart;
+        }
+        return node != 0;
+    }
+
+    @Override
+    public void setMatchResultListener(Consumer<MatchResult> listener) {
+        this.matchResultListener = listener;
+    }
+
+    @Override
+    public Contestant getWinner() {
+        if (size == 0 || node != 0) {
+            return null;
+        }
+        return entrants[size == 1 ? 0 : bracket[1]];
+    }
+
+    @Override
+    public String getCurrentRoundName() {
+        return TournamentEngine.roundName(roundSize);
+    }
+
+    @Override
+    public String getCurrentMatchInfo() {
+        return (node - roundStart + 1) + "/" + (roundEnd - roundStart);
+    }
+
+    @Override
+    public boolean isStarted() {
+        return size > 0;
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(entrants, null); // 후보자 참조는 놓아 줌 (배열은 재사용)
+        size = 0;
+        roundSize = 0;
+        roundStart = 0;
+        roundEnd = 0;
+        node = 0;
+        categoryName = null;
+    }
+}
@@ -0,0 +1,249 @@
+package com.whatsyourpick.game;
+
+import com.whatsyourpick.model.MatchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 카테고리별 "가장 많이 선택된" 후보자 순위를 유지하는 집계기
+ * 매치 결과가 들어올 때마다 후보자별 승리/결승 진출/우승 횟수를 바로 갱신하므로,
+ * 순위를 볼 때마다 전체 매치 기록을 다시 집계하지 않습니다.
+ *
+ * 카운터는 후보자 id를 인덱스로 쓰는 int 배열에 저장하고, 순위는 같은 id를 담은
+ * 인덱스 기반 최대 힙으로 유지합니다. 카운터는 증가만 하므로 갱신은 위로 올리기(O(log N))만 필요하고,
+ * 상위 K명 조회는 힙의 위쪽만 탐색해 O(K log N)입니다.
+ *
+ * 순위 기준: 우승 횟수 → 결승 진출 횟수 → 승리 횟수 → id 오름차순
+ */
+public class PopularityLeaderboard {
+
+    private static final int INITIAL_CAPACITY = 128;
+
+    private final Map<String, Board> boards = new HashMap<>();
+
+    /**
+     * 매치 결과를 집계에 반영합니다.
+     * 결승(라운드 크기 2)이면 두 후보자의 결승 진출과 승자의 우승을 함께 기록합니다.
+     * @param result 매치 결과
+     */
+    public synchronized void record(MatchResult result) {
+        if (result == null || result.getCategory() == null
+                || !isValidId(result.getWinnerId()) || !isValidId(result.getLoserId())) {
+            return;
+        }
+        Board board = boards.computeIfAbsent(result.getCategory(), name -> new Board());
+        int winner = result.getWinnerId().intValue();
+        int loser = result.getLoserId().intValue();
+
+        board.ensureCapacity(Math.max(winner, loser));
+        board.wins[winner]++;
+        if (result.getRound() == 2) {
+            board.finals[winner]++;
+            board.finals[loser]++;
+            board.championships[winner]++;
+            board.increased(loser);
+        }
+        board.increased(winner);
+    }
+
+    /**
+     * 카테고리의 상위 후보자를 반환합니다.
+     * @param categoryName 카테고리 이름
+     * @param k 최대 인원
+     * @return 순위 순서의 항목 리스트 (기록이 없으면 빈 리스트)
+     */
+    public synchronized List<Entry> getTop(String categoryName, int k) {
+        Board board = boards.get(categoryName);
+        if (board == null || k <= 0) {
+            return Collections.emptyList();
+        }
+        return board.top(k);
+    }
+
+    /**
+     * 후보자의 현재 집계를 반환합니다.
+     * @param categoryName 카테고리 이름
+     * @param contestantId 후보자 id
+     * @return 집계 항목 (기록이 없으면 모든 횟수가 0)
+     */
+    public synchronized Entry getEntry(String categoryName, long contestantId) {
+        Board board = boards.get(categoryName);
+        if (board == null || !isValidId(contestantId) || contestantId >= board.pos.length) {
+            return new Entry(contestantId, 0, 0, 0);
+        }
+        return board.entry((int) contestantId);
+    }
+
+    /**
+     * 모든 집계를 지웁니다.
+     */
+    public synchronized void clear() {
+        boards.clear();
+    }
+
+    private static boolean isValidId(Long id) {
+        return id != null && id >= 0 && id < Integer.MAX_VALUE - 8;
+    }
+
+    /**
+     * 순위 항목 (불변)
+     */
+    public static final class Entry {
+        private final long contestantId;
+        private final int wins;
+        private final int finals;
+        private final int championships;
+
+        Entry(long contestantId, int wins, int finals, int championships) {
+            this.contestantId = contestantId;
+            this.wins = wins;
+            this.finals = finals;
+            this.championships = championships;
+        }
+
+        public long getContestantId() {
+            return contestantId;
+        }
+
+        public int getWins() {
+            return wins;
+        }
+
+        public int getFinals() {
+            return finals;
+        }
+
+        public int getChampionships() {
+            return championships;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{" +
+                    "contestantId=" + contestantId +
+                    ", wins=" + wins +
+                    ", finals=" + finals +
+                    ", championships=" + championships +
+                    '}';
+        }
+    }
+
+    /**
+     * 카테고리 하나의 카운터 배열과 인덱스 기반 최대 힙
+     */
+    private static final class Board {
+        int[] wins = new int[INITIAL_CAPACITY];
+        int[] finals = new int[INITIAL_CAPACITY];
+        int[] championships = new int[INITIAL_CAPACITY];
+
+        int[] heap = new int[INITIAL_CAPACITY];  // 힙 위치 → 후보자 id
+        int[] pos = new int[INITIAL_CAPACITY];   // 후보자 id → 힙 위치 (-1: 아직 없음)
+        int size;
+
+        Board() {
+            Arrays.fill(pos, -1);
+        }
+
+        /**
+         * id가 들어갈 수 있도록 카운터 배열을 늘립니다.
+         */
+        void ensureCapacity(int id) {
+            if (id < pos.length) {
+                return;
+            }
+            int capacity = pos.length;
+            while (capacity <= id) {
+                capacity = capacity * 2;
+            }
+            wins = Arrays.copyOf(wins, capacity);
+            finals = Arrays.copyOf(finals, capacity);
+            championships = Arrays.copyOf(championships, capacity);
+            int oldLength = pos.length;
+            pos = Arrays.copyOf(pos, capacity);
+            Arrays.fill(pos, oldLength, capacity, -1);
+        }
+
+        /**
+         * 카운터가 증가한 후보자를 힙에 반영합니다.
+         */
+        void increased(int id) {
+            int index = pos[id];
+            if (index < 0) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, size * 2);
+                }
+                index = size++;
+                heap[index] = id;
+                pos[id] = index;
+            }
+            siftUp(index);
+        }
+
+        private void siftUp(int index) {
+            int id = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                int parentId = heap[parent];
+                if (!ranksHigher(id, parentId)) {
+                    break;
+                }
+                heap[index] = parentId;
+                pos[parentId] = index;
+                index = parent;
+            }
+            heap[index] = id;
+            pos[id] = index;
+        }
+
+        boolean ranksHigher(int a, int b) {
+            if (championships[a] != championships[b]) {
+                return championships[a] > championships[b];
+            }
+            if (finals[a] != finals[b]) {
+                return finals[a] > finals[b];
+            }
+            if (wins[a] != wins[b]) {
+                return wins[a] > wins[b];
+            }
+            return a < b;
+        }
+
+        /**
+         * 힙의 루트부터 후보 위치만 보조 큐에 넣어 가며 상위 k명을 꺼냅니다.
+         * 꺼낼 때마다 자식 두 개만 추가되므로 힙 전체를 정렬하지 않습니다.
+         */
+        List<Entry> top(int k) {
+            int limit = Math.min(k, size);
+            List<Entry> result = new ArrayList<>(limit);
+            if (limit == 0) {
+                return result;
+            }
+            PriorityQueue<Integer> frontier = new PriorityQueue<>(
+                    Math.min(2 * limit + 1, size),
+                    (x, y) -> x.equals(y) ? 0 : ranksHigher(heap[x], heap[y]) ? -1 : 1);
+            frontier.add(0);
+            while (result.size() < limit) {
+                int index = frontier.poll();
+                result.add(entry(heap[index]));
+                int left = 2 * index + 1;
+                if (left < size) {
+                    frontier.add(left);
+                }
+                if (left + 1 < size) {
+                    frontier.add(left + 1);
+                }
+            }
+            return result;
+        }
+
+        Entry entry(int id) {
+            return new Entry(id, wins[id], finals[id], championships[id]);
+        }
+    }
+}
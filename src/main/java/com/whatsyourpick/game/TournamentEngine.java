@@ -0,0 +1,123 @@
+package com.whatsyourpick.game;
+
+import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.model.MatchResult;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 토너먼트 진행 엔진
+ * 후보자를 뽑아 대진을 만들고, 매치마다 승자를 받아 우승자가 나올 때까지 진행합니다.
+ * 구현: TournamentManager (리스트 기반), ArrayTournamentManager (int 배열 기반, 매치당 할당 없음)
+ */
+public interface TournamentEngine {
+
+    /**
+     * 카테고리의 후보자 전원으로 진행하는 토너먼트 규모
+     */
+    int ALL_CONTESTANTS = Integer.MAX_VALUE;
+
+    /**
+     * 토너먼트를 초기화합니다.
+     * 참가 인원이 2의 거듭제곱이 아니면 첫 라운드에서 일부 후보자가 부전승으로 다음 라운드에 올라갑니다.
+     * @param contestants 후보자 리스트
+     * @param size 토너먼트 규모 (아무 인원이나 가능, 후보자보다 많으면 후보자 전원)
+     */
+    void initializeTournament(List<Contestant> contestants, int size);
+
+    /**
+     * 카테고리 이름과 함께 토너먼트를 초기화합니다. 매치 결과에 카테고리가 기록됩니다.
+     * @param categoryName 카테고리 이름
+     * @param contestants 후보자 리스트
+     * @param size 토너먼트 규모 (아무 인원이나 가능, 후보자보다 많으면 후보자 전원)
+     */
+    void initializeTournament(String categoryName, List<Contestant> contestants, int size);
+
+    /**
+     * 현재 매치의 왼쪽 후보자를 반환합니다.
+     * @return 왼쪽 후보자 (매치가 없으면 null)
+     */
+    Contestant getLeftContestant();
+
+    /**
+     * 현재 매치의 오른쪽 후보자를 반환합니다.
+     * @return 오른쪽 후보자 (매치가 없으면 null)
+     */
+    Contestant getRightContestant();
+
+    /**
+     * 현재 매치 이후에 등장할 후보자를 등장 순서대로 반환합니다. (이미지 미리 읽기용)
+     * @param maxCount 최대 인원
+     * @return 곧 등장할 후보자 리스트
+     */
+    List<Contestant> getUpcomingContestants(int maxCount);
+
+    /**
+     * 승자를 선택하고 다음 매치로 진행합니다.
+     * @param winner 승리한 후보자
+     * @return 토너먼트가 계속 진행되면 true, 우승자가 결정되면 false
+     */
+    boolean selectWinner(Contestant winner);
+
+    /**
+     * 매치 결과 리스너를 설정합니다. selectWinner() 호출마다 결과가 전달됩니다.
+     * @param listener 매치 결과 리스너
+     */
+    void setMatchResultListener(Consumer<MatchResult> listener);
+
+    /**
+     * 우승자를 반환합니다.
+     * @return 우승자 (아직 결정되지 않았으면 null)
+     */
+    Contestant getWinner();
+
+    /**
+     * 현재 라운드 이름을 반환합니다. (결승, 4강, 8강 등)
+     * @return 라운드 이름
+     */
+    String getCurrentRoundName();
+
+    /**
+     * 현재 매치 정보를 반환합니다. (예: "1/4")
+     * @return 매치 정보 문자열
+     */
+    String getCurrentMatchInfo();
+
+    /**
+     * 토너먼트가 시작되었는지 확인합니다.
+     * @return 시작 여부
+     */
+    boolean isStarted();
+
+    /**
+     * 토너먼트를 초기화합니다.
+     */
+    void reset();
+
+    /**
+     * 라운드 인원으로 라운드 이름을 만듭니다. (2명 = 결승, 그 밖에는 "N강")
+     * @param contestants 라운드에 남은 인원
+     * @return 라운드 이름
+     */
+    static String roundName(int contestants) {
+        if (contestants == 2) {
+            return "결승";
+        }
+        return contestants + "강";
+    }
+
+    /**
+     * 첫 라운드의 매치 수를 계산합니다.
+     * 참가 인원 n이 2의 거듭제곱이 아니면 n을 넘지 않는 가장 큰 2의 거듭제곱 p까지 줄이는 데 필요한 n - p 매치만 치르고,
+     * 나머지 2p - n명은 부전승으로 다음 라운드(p강)에 올라갑니다. (예: 75명 = 11매치 + 부전승 53명 -> 64강)
+     * @param contestants 참가 인원
+     * @return 첫 라운드 매치 수 (참가 인원이 2명 미만이면 0)
+     */
+    static int firstRoundMatches(int contestants) {
+        if (contestants < 2) {
+            return 0;
+        }
+        return contestants - Integer.highestOneBit(contestants - 1);
+    }
+}
@@ -1,21 +1,25 @@
 package com.whatsyourpick.game;
 
 import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.model.MatchResult;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
- * 토너먼트 게임 로직을 관리하는 클래스
+ * 토너먼트 게임 로직을 관리하는 클래스 (리스트 기반 TournamentEngine)
  */
-public class TournamentManager {
+public class TournamentManager implements TournamentEngine {
 
     private List<Contestant> allContestants;      // 전체 후보자
     private List<Contestant> currentRound;        // 현재 라운드 후보자
     private List<Contestant> nextRound;           // 다음 라운드로 진출한 후보자
-    private int tournamentSize;                    // 토너먼트 규모 (4, 8, 16, 32, 64)
+    private int tournamentSize;                    // 토너먼트 규모 (선택한 인원)
     private int currentMatchIndex;                 // 현재 매치 인덱스
-    private int totalMatches;                      // 현재 라운드 총 매치 수
+    private int totalMatches;                      // 현재 라운드 총 매치 수 (뒤쪽 나머지는 부전승)
+    private String categoryName;                   // 진행 중인 카테고리 이름
+    private Consumer<MatchResult> matchResultListener; // 매치 결과 리스너 (기록용)
 
     public TournamentManager() {
         this.allContestants = new ArrayList<>();
@@ -26,10 +30,22 @@ public class TournamentManager {
 
     /**
      * 토너먼트를 초기화합니다.
-     * @param contestants 전체 후보자 리스트
-     * @param size 토너먼트 규모 (4, 8, 16, 32, 64)
+     * DatabaseManager.getRandomContestants()로 규모만큼 미리 뽑은 목록을 넘기면 섞는 비용도 규모에 비례합니다.
+     * @param contestants 후보자 리스트
+     * @param size 토너먼트 규모 (후보자보다 많으면 후보자 전원)
      */
     public void initializeTournament(List<Contestant> contestants, int size) {
+        initializeTournament(null, contestants, size);
+    }
+
+    /**
+     * 카테고리 이름과 함께 토너먼트를 초기화합니다. 매치 결과에 카테고리가 기록됩니다.
+     * @param categoryName 카테고리 이름
+     * @param contestants 후보자 리스트
+     * @param size 토너먼트 규모 (후보자보다 많으면 후보자 전원)
+     */
+    public void initializeTournament(String categoryName, List<Contestant> contestants, int size) {
+        this.categoryName = categoryName;
         this.allContestants = new ArrayList<>(contestants);
         this.tournamentSize = size;
         this.currentMatchIndex = 0;
@@ -40,7 +56,12 @@ public class TournamentManager {
         // 토너먼트 크기만큼만 선택
         currentRound = new ArrayList<>(allContestants.subList(0, Math.min(size, allContestants.size())));
         nextRound = new ArrayList<>();
-        totalMatches = currentRound.size() / 2;
+
+        // 2의 거듭제곱이 아니면 앞쪽 후보자끼리만 매치를 치르고 뒤쪽은 부전승
+        totalMatches = TournamentEngine.firstRoundMatches(currentRound.size());
+        if (currentRound.size() == 1) {
+            nextRound.add(currentRound.get(0)); // 한 명이면 매치 없이 우승
+        }
     }
 
     /**
@@ -48,7 +69,7 @@ public class TournamentManager {
      * @return 왼쪽 후보자
      */
     public Contestant getLeftContestant() {
-        if (currentMatchIndex * 2 < currentRound.size()) {
+        if (currentMatchIndex < totalMatches) {
             return currentRound.get(currentMatchIndex * 2);
         }
         return null;
@@ -59,23 +80,50 @@ public class TournamentManager {
      * @return 오른쪽 후보자
      */
     public Contestant getRightContestant() {
-        if (currentMatchIndex * 2 + 1 < currentRound.size()) {
+        if (currentMatchIndex < totalMatches) {
             return currentRound.get(currentMatchIndex * 2 + 1);
         }
         return null;
     }
 
+    /**
+     * 현재 매치 이후에 등장할 후보자를 등장 순서대로 반환합니다. (이미지 미리 읽기용)
+     * 현재 라운드의 남은 매치 후보자, 이미 다음 라운드에 진출한 후보자, 부전승 후보자 순서입니다.
+     * @param maxCount 최대 인원
+     * @return 곧 등장할 후보자 리스트
+     */
+    public List<Contestant> getUpcomingContestants(int maxCount) {
+        List<Contestant> upcoming = new ArrayList<>(maxCount);
+        if (currentMatchIndex >= totalMatches) {
+            return upcoming;
+        }
+        for (int i = (currentMatchIndex + 1) * 2; i < totalMatches * 2 && upcoming.size() < maxCount; i++) {
+            upcoming.add(currentRound.get(i));
+        }
+        for (int i = 0; i < nextRound.size() && upcoming.size() < maxCount; i++) {
+            upcoming.add(nextRound.get(i));
+        }
+        for (int i = totalMatches * 2; i < currentRound.size() && upcoming.size() < maxCount; i++) {
+            upcoming.add(currentRound.get(i));
+        }
+        return upcoming;
+    }
+
     /**
      * 승자를 선택하고 다음 매치로 진행합니다.
      * @param winner 승리한 후보자
      * @return 토너먼트가 계속 진행되면 true, 우승자가 결정되면 false
      */
     public boolean selectWinner(Contestant winner) {
+        notifyMatchResult(winner);
         nextRound.add(winner);
         currentMatchIndex++;
 
         // 현재 라운드의 모든 매치가 끝났는지 확인
         if (currentMatchIndex >= totalMatches) {
+            // 부전승 후보자는 매치 승자들 뒤에 그대로 진출
+            nextRound.addAll(currentRound.subList(totalMatches * 2, currentRound.size()));
+
             // 우승자가 결정되었는지 확인
             if (nextRound.size() == 1) {
                 return false; // 토너먼트 종료
@@ -91,6 +139,31 @@ public class TournamentManager {
         return true; // 토너먼트 계속 진행
     }
 
+    /**
+     * 현재 매치의 결과를 리스너에 알립니다.
+     */
+    private void notifyMatchResult(Contestant winner) {
+        if (matchResultListener == null) {
+            return;
+        }
+        Contestant left = getLeftContestant();
+        Contestant right = getRightContestant();
+        Contestant loser = winner == left ? right : left;
+        if (winner == null || loser == null) {
+            return;
+        }
+        matchResultListener.accept(new MatchResult(categoryName, winner.getId(), loser.getId(),
+                currentRound.size(), System.currentTimeMillis()));
+    }
+
+    /**
+     * 매치 결과 리스너를 설정합니다. selectWinner() 호출마다 결과가 전달됩니다.
+     * @param listener 매치 결과 리스너
+     */
+    public void setMatchResultListener(Consumer<MatchResult> listener) {
+        this.matchResultListener = listener;
+    }
+
     /**
      * 우승자를 반환합니다.
      * @return 우승자
@@ -107,21 +180,7 @@ public class TournamentManager {
      * @return 라운드 이름
      */
     public String getCurrentRoundName() {
-        int remainingContestants = currentRound.size();
-        if (remainingContestants == 2) {
-            return "결승";
-        } else if (remainingContestants == 4) {
-            return "4강";
-        } else if (remainingContestants == 8) {
-            return "8강";
-        } else if (remainingContestants == 16) {
-            return "16강";
-        } else if (remainingContestants == 32) {
-            return "32강";
-        } else if (remainingContestants == 64) {
-            return "64강";
-        }
-        return remainingContestants + "강";
+        return TournamentEngine.roundName(currentRound.size());
     }
 
     /**
@@ -150,5 +209,6 @@ public class TournamentManager {
         currentMatchIndex = 0;
         tournamentSize = 0;
         totalMatches = 0;
+        categoryName = null;
     }
 }
\ No newline at end of file
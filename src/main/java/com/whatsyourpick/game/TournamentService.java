@@ -0,0 +1,303 @@
+package com.whatsyourpick.game;
+
+import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.model.MatchResult;
+import com.whatsyourpick.util.RandomSampler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 여러 사용자의 토너먼트 세션을 세션 ID로 나눠 관리하는 서비스
+ * 세션 조회는 ConcurrentHashMap으로 잠금 없이 하고, 세션 상태 변경은 세션 ID로 고른 줄무늬(stripe) 잠금 하나만 잡습니다.
+ * 세션마다 엔진 하나(기본 ArrayTournamentManager: 참가자 배열 + int 대진표)와 마지막 사용 시각만 보관하며,
+ * 마지막 사용 후 TTL이 지난 세션은 정리 스레드가 주기적으로 제거합니다. (조회 시점에 만료된 세션도 없는 세션으로 취급)
+ */
+public class TournamentService implements AutoCloseable {
+
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Object[] locks;
+    private final long ttlMillis;
+    private final Supplier<TournamentEngine> engineFactory;
+    private final ScheduledExecutorService evictor;
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    // 모든 세션 엔진이 공유하는 리스너 (세션마다 람다를 만들지 않음)
+    private final Consumer<MatchResult> sharedListener = this::notifyMatchResult;
+    private volatile Consumer<MatchResult> matchResultListener;
+
+    /**
+     * 세션 하나의 상태 (같은 줄무늬 잠금 안에서만 엔진을 사용)
+     */
+    private static final class Session {
+        private final TournamentEngine engine;
+        private volatile long lastAccessMillis;
+
+        private Session(TournamentEngine engine, long now) {
+            this.engine = engine;
+            this.lastAccessMillis = now;
+        }
+    }
+
+    /**
+     * 현재 매치 정보 (잠금 밖에서 안전하게 쓸 수 있는 복사본)
+     */
+    public static final class Match {
+        private final Contestant left;
+        private final Contestant right;
+        private final String roundName;
+        private final String matchInfo;
+
+        private Match(Contestant left, Contestant right, String roundName, String matchInfo) {
+            this.left = left;
+            this.right = right;
+            this.roundName = roundName;
+            this.matchInfo = matchInfo;
+        }
+
+        public Contestant getLeft() {
+            return left;
+        }
+
+        public Contestant getRight() {
+            return right;
+        }
+
+        public String getRoundName() {
+            return roundName;
+        }
+
+        public String getMatchInfo() {
+            return matchInfo;
+        }
+    }
+
+    /**
+     * 시스템 프로퍼티 설정으로 서비스를 생성합니다.
+     * -Dwyp.session.ttlSeconds 세션 유효 시간 (기본 1800초), -Dwyp.session.stripes 잠금 줄무늬 수 (기본 64)
+     */
+    public TournamentService() {
+        this(Long.getLong("wyp.session.ttlSeconds", 1800L) * 1000L,
+                Integer.getInteger("wyp.session.stripes", 64), ArrayTournamentManager::new);
+    }
+
+    /**
+     * @param ttlMillis 마지막 사용 후 세션을 보관하는 시간 (밀리초)
+     * @param stripes 잠금 줄무늬 수 (2의 거듭제곱으로 올림)
+     * @param engineFactory 세션마다 엔진을 만드는 팩토리
+     */
+    public TournamentService(long ttlMillis, int stripes, Supplier<TournamentEngine> engineFactory) {
+        this.ttlMillis = ttlMillis;
+        this.engineFactory = engineFactory;
+        int count = stripes <= 1 ? 1 : Integer.highestOneBit(Math.min(stripes, 1 << 16) - 1) * 2;
+        this.locks = new Object[count];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "tournament-session-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 만료 세션 정리 스레드를 시작합니다. (TTL의 절반, 최대 1분 간격)
+     */
+    public void start() {
+        long interval = Math.max(1L, Math.min(ttlMillis / 2, 60_000L));
+        evictor.scheduleWithFixedDelay(() -> {
+            try {
+                int removed = evictExpired();
+                if (removed > 0) {
+                    System.out.println("🧹 만료된 토너먼트 세션 " + removed + "개 정리 (남은 세션 " + sessions.size() + "개)");
+                }
+            } catch (RuntimeException e) {
+                System.err.println("❌ 세션 정리 실패: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 새 세션 ID로 토너먼트를 시작합니다.
+     * @return 새 세션 ID
+     * @see #startSession(String, String, List, int)
+     */
+    public String createSession(String categoryName, List<Contestant> contestants, int size) {
+        String sessionId = UUID.randomUUID().toString();
+        startSession(sessionId, categoryName, contestants, size);
+        return sessionId;
+    }
+
+    /**
+     * 지정한 세션 ID로 토너먼트를 시작합니다. 같은 ID의 세션이 있으면 새 토너먼트로 바뀝니다.
+     * 후보자 목록은 여러 세션이 공유해도 되며, 세션에는 규모만큼 뽑은 후보자만 보관합니다.
+     * @param sessionId 세션 ID
+     * @param categoryName 카테고리 이름
+     * @param contestants 카테고리 후보자 목록 (변경하지 않음)
+     * @param size 토너먼트 규모 (후보자보다 많으면 후보자 전원)
+     */
+    public void startSession(String sessionId, String categoryName, List<Contestant> contestants, int size) {
+        List<Contestant> entrants = RandomSampler.sample(contestants, size);
+        TournamentEngine engine = engineFactory.get();
+        synchronized (lockFor(sessionId)) {
+            engine.setMatchResultListener(sharedListener);
+            engine.initializeTournament(categoryName, entrants, size);
+            sessions.put(sessionId, new Session(engine, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * 현재 매치를 반환합니다.
+     * @param sessionId 세션 ID
+     * @return 현재 매치 (우승자가 결정되었으면 null)
+     * @throws IllegalArgumentException 세션이 없거나 만료되었을 때
+     */
+    public Match currentMatch(String sessionId) {
+        Session session = session(sessionId);
+        synchronized (lockFor(sessionId)) {
+            TournamentEngine engine = session.engine;
+            Contestant left = engine.getLeftContestant();
+            Contestant right = engine.getRightContestant();
+            if (left == null || right == null) {
+                return null;
+            }
+            return new Match(left, right, engine.getCurrentRoundName(), engine.getCurrentMatchInfo());
+        }
+    }
+
+    /**
+     * 현재 매치의 승자를 후보자 ID로 선택합니다.
+     * 같은 세션에 요청이 동시에 들어와도 한 번에 하나씩 처리되며, 이미 끝난 매치의 후보자는 거부됩니다.
+     * @param sessionId 세션 ID
+     * @param winnerId 승리한 후보자 ID
+     * @return 토너먼트가 계속 진행되면 true, 우승자가 결정되면 false
+     * @throws IllegalArgumentException 세션이 없거나, 현재 매치의 후보자가 아닐 때
+     * @throws IllegalStateException 이미 우승자가 결정되었을 때
+     */
+    public boolean selectWinner(String sessionId, long winnerId) {
+        Session session = session(sessionId);
+        synchronized (lockFor(sessionId)) {
+            TournamentEngine engine = session.engine;
+            Contestant left = engine.getLeftContestant();
+            Contestant right = engine.getRightContestant();
+            if (left == null || right == null) {
+                throw new IllegalStateException("진행 중인 매치가 없습니다: " + sessionId);
+            }
+            Contestant winner;
+            if (left.getId() != null && left.getId() == winnerId) {
+                winner = left;
+            } else if (right.getId() != null && right.getId() == winnerId) {
+                winner = right;
+            } else {
+                throw new IllegalArgumentException("현재 매치의 후보자가 아닙니다: " + winnerId);
+            }
+            return engine.selectWinner(winner);
+        }
+    }
+
+    /**
+     * 우승자를 반환합니다.
+     * @param sessionId 세션 ID
+     * @return 우승자 (아직 결정되지 않았으면 null)
+     * @throws IllegalArgumentException 세션이 없거나 만료되었을 때
+     */
+    public Contestant getWinner(String sessionId) {
+        Session session = session(sessionId);
+        synchronized (lockFor(sessionId)) {
+            return session.engine.getWinner();
+        }
+    }
+
+    /**
+     * 세션을 종료하고 제거합니다.
+     * @param sessionId 세션 ID
+     * @return 세션이 있었으면 true
+     */
+    public boolean endSession(String sessionId) {
+        return sessions.remove(sessionId) != null;
+    }
+
+    /**
+     * TTL이 지난 세션을 모두 제거합니다.
+     * @return 제거한 세션 수
+     */
+    public int evictExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+            Session session = entry.getValue();
+            // 확인과 제거 사이에 다시 사용된 세션은 남겨 둠
+            if (now - session.lastAccessMillis >= ttlMillis && sessions.remove(entry.getKey(), session)) {
+                removed++;
+            }
+        }
+        evictionCount.addAndGet(removed);
+        return removed;
+    }
+
+    /**
+     * 매치 결과 리스너를 설정합니다. 모든 세션의 selectWinner() 결과가 전달됩니다.
+     * 세션 줄무늬 잠금을 잡은 채 여러 스레드에서 호출되므로 스레드 안전해야 하고 절대 대기하면 안 됩니다.
+     * 대기하면 같은 줄무늬의 다른 세션이 모두 멈추므로, 큐가 가득 차면 대기하는 MatchResultWriter.submit 같은 저장은
+     * 다른 스레드로 넘겨야 합니다. (예: AsyncDatabaseManager.recordMatchResult)
+     * @param listener 매치 결과 리스너
+     */
+    public void setMatchResultListener(Consumer<MatchResult> listener) {
+        this.matchResultListener = listener;
+    }
+
+    /**
+     * 현재 세션 수를 반환합니다. (아직 정리되지 않은 만료 세션 포함)
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 지금까지 TTL로 제거된 세션 수를 반환합니다.
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * 정리 스레드를 멈추고 모든 세션을 제거합니다.
+     */
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        sessions.clear();
+    }
+
+    private Session session(String sessionId) {
+        Session session = sessions.get(sessionId);
+        long now = System.currentTimeMillis();
+        if (session == null || now - session.lastAccessMillis >= ttlMillis) {
+            throw new IllegalArgumentException("세션이 없거나 만료되었습니다: " + sessionId);
+        }
+        session.lastAccessMillis = now;
+        return session;
+    }
+
+    private Object lockFor(String sessionId) {
+        int h = sessionId.hashCode();
+        return locks[(h ^ (h >>> 16)) & (locks.length - 1)];
+    }
+
+    private void notifyMatchResult(MatchResult result) {
+        Consumer<MatchResult> listener = matchResultListener;
+        if (listener != null) {
+            listener.accept(result);
+        }
+    }
+}
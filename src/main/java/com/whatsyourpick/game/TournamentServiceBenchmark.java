@@ -0,0 +1,132 @@
+package com.whatsyourpick.game;
+
+import com.whatsyourpick.model.Contestant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TournamentService 부하 테스트 도구
+ * 세션을 많이 만든 뒤 여러 스레드가 무작위 세션을 골라 동시에 승자를 선택해 모든 세션을 끝까지 진행합니다.
+ * 같은 세션에 여러 스레드가 몰리기도 하므로, 이미 끝난 매치에 대한 선택은 거부(충돌)로 집계됩니다.
+ * 끝나면 모든 세션에 우승자가 있고 매치 수가 세션마다 (참가 인원 - 1)인지 확인하고, TTL 정리도 확인합니다.
+ *
+ * 사용법:
+ *   TournamentServiceBenchmark [세션 수] [스레드 수] [토너먼트 규모] [카테고리 후보자 수]
+ *   (기본값: 10000, 8, 64, 75)
+ */
+public class TournamentServiceBenchmark {
+
+    private static final String CATEGORY = "benchmark";
+    private static final long TTL_CHECK_MILLIS = 200L;
+
+    public static void main(String[] args) throws InterruptedException {
+        int sessionCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int size = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        int candidates = args.length > 3 ? Integer.parseInt(args[3]) : 75;
+
+        List<Contestant> contestants = new ArrayList<>(candidates);
+        for (long id = 1; id <= candidates; id++) {
+            contestants.add(new Contestant(id, "후보" + id, "/images/" + id + ".png", 1L));
+        }
+        int entrants = Math.min(size, candidates);
+        System.out.println("🏁 세션 " + sessionCount + "개, 스레드 " + threads + ", 규모 " + entrants + "명 ("
+                + TournamentEngine.roundName(entrants) + ")");
+
+        try (TournamentService service = new TournamentService()) {
+            service.start();
+            AtomicLong matches = new AtomicLong();
+            service.setMatchResultListener(result -> matches.incrementAndGet());
+
+            // 세션 생성 (세션당 메모리는 GC 후 힙 사용량 차이로 추정)
+            long heapBefore = usedHeap();
+            String[] ids = new String[sessionCount];
+            long start = System.nanoTime();
+            for (int i = 0; i < sessionCount; i++) {
+                ids[i] = service.createSession(CATEGORY, contestants, size);
+            }
+            double createMs = (System.nanoTime() - start) / 1_000_000.0;
+            long heapAfter = usedHeap();
+            System.out.printf("📦 세션 생성: %.1f ms (%.1f µs/세션), 세션당 약 %d bytes%n",
+                    createMs, createMs * 1000 / sessionCount, (heapAfter - heapBefore) / sessionCount);
+
+            // 모든 세션이 우승자를 낼 때까지 무작위 세션에 동시에 선택
+            AtomicInteger remaining = new AtomicInteger(entrants >= 2 ? sessionCount : 0);
+            AtomicLong operations = new AtomicLong();
+            AtomicLong conflicts = new AtomicLong();
+            List<Thread> workers = new ArrayList<>();
+            start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                Thread worker = new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (remaining.get() > 0) {
+                        String id = ids[random.nextInt(ids.length)];
+                        TournamentService.Match match = service.currentMatch(id);
+                        operations.incrementAndGet();
+                        if (match == null) {
+                            continue;
+                        }
+                        Contestant winner = random.nextBoolean() ? match.getLeft() : match.getRight();
+                        try {
+                            if (!service.selectWinner(id, winner.getId())) {
+                                remaining.decrementAndGet();
+                            }
+                        } catch (IllegalArgumentException | IllegalStateException e) {
+                            conflicts.incrementAndGet(); // 다른 스레드가 먼저 이 매치를 끝냄
+                        }
+                        operations.incrementAndGet();
+                    }
+                }, "tournament-load-" + t);
+                workers.add(worker);
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            int withWinner = 0;
+            for (String id : ids) {
+                if (service.getWinner(id) != null) {
+                    withWinner++;
+                }
+            }
+            long expectedMatches = (long) sessionCount * Math.max(0, entrants - 1);
+            System.out.printf("⚡ 진행: %.2f s, 매치 %d건 (%.0f matches/s), 호출 %d건 (%.0f ops/s), 충돌 %d건%n",
+                    seconds, matches.get(), matches.get() / seconds, operations.get(), operations.get() / seconds,
+                    conflicts.get());
+            if (withWinner == sessionCount && matches.get() == expectedMatches) {
+                System.out.println("✅ 모든 세션 우승자 결정, 매치 수 일치 (" + expectedMatches + "건)");
+            } else {
+                System.err.println("❌ 검증 실패: 우승자 " + withWinner + "/" + sessionCount
+                        + ", 매치 " + matches.get() + "/" + expectedMatches);
+            }
+        }
+
+        // TTL이 지나면 세션이 정리되는지 확인
+        try (TournamentService service = new TournamentService(TTL_CHECK_MILLIS, 64, ArrayTournamentManager::new)) {
+            for (int i = 0; i < 1000; i++) {
+                service.createSession(CATEGORY, contestants, size);
+            }
+            Thread.sleep(TTL_CHECK_MILLIS * 2);
+            int evicted = service.evictExpired();
+            if (evicted == 1000 && service.getSessionCount() == 0) {
+                System.out.println("✅ TTL 정리: 만료 세션 " + evicted + "개 제거");
+            } else {
+                System.err.println("❌ TTL 정리 실패: 제거 " + evicted + "개, 남은 세션 " + service.getSessionCount() + "개");
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
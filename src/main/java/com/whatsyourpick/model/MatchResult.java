@@ -0,0 +1,76 @@
+package com.whatsyourpick.model;
+
+/**
+ * 매치 결과 모델 클래스
+ * 데이터베이스의 match_result 테이블과 매핑됩니다.
+ */
+public class MatchResult {
+    private String category;
+    private Long winnerId;
+    private Long loserId;
+    private int round;        // 라운드 규모 (결승 2, 4강 4, 8강 8 ...)
+    private long playedAt;    // 선택 시각 (epoch 밀리초)
+
+    public MatchResult() {
+    }
+
+    public MatchResult(String category, Long winnerId, Long loserId, int round, long playedAt) {
+        this.category = category;
+        this.winnerId = winnerId;
+        this.loserId = loserId;
+        this.round = round;
+        this.playedAt = playedAt;
+    }
+
+    // Getters and Setters
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Long getWinnerId() {
+        return winnerId;
+    }
+
+    public void setWinnerId(Long winnerId) {
+        this.winnerId = winnerId;
+    }
+
+    public Long getLoserId() {
+        return loserId;
+    }
+
+    public void setLoserId(Long loserId) {
+        this.loserId = loserId;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public void setRound(int round) {
+        this.round = round;
+    }
+
+    public long getPlayedAt() {
+        return playedAt;
+    }
+
+    public void setPlayedAt(long playedAt) {
+        this.playedAt = playedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchResult{" +
+                "category='" + category + '\'' +
+                ", winnerId=" + winnerId +
+                ", loserId=" + loserId +
+                ", round=" + round +
+                ", playedAt=" + playedAt +
+                '}';
+    }
+}
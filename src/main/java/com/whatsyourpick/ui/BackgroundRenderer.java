@@ -0,0 +1,170 @@
+package com.whatsyourpick.ui;
+
+import com.whatsyourpick.util.ImageScaler;
+
+import javax.imageio.ImageIO;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 패널 배경 이미지를 그리는 공유 렌더러
+ * 배경 이미지는 한 번만 디코딩하고, 패널 크기마다 미리 스케일링한 화면 호환 이미지와
+ * 그래픽 메모리에 올린 VolatileImage를 보관합니다. 매 프레임마다 원본을 다시 스케일링하지 않고 복사만 합니다.
+ * 크기별 보관본은 EDT(paintComponent)에서만 사용합니다.
+ */
+public class BackgroundRenderer {
+
+    private static final String DEFAULT_BACKGROUND = "/images/background.png";
+    private static final Color FALLBACK_COLOR = new Color(255, 243, 253); // #FFF3FD (배경 이미지 없을 시 대체 색상)
+    private static final int MAX_SIZES = 4; // 보관할 크기 수 (창 크기를 바꿀 때 오래된 것부터 버림)
+
+    private static final Map<String, BackgroundRenderer> renderers = new ConcurrentHashMap<>();
+
+    private final String resourcePath;
+    private BufferedImage source;
+    private boolean loaded;
+
+    private final Map<Dimension, Surface> surfaces = new LinkedHashMap<Dimension, Surface>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Dimension, Surface> eldest) {
+            if (size() > MAX_SIZES) {
+                eldest.getValue().flush();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private BackgroundRenderer(String resourcePath) {
+        this.resourcePath = resourcePath;
+    }
+
+    /**
+     * 공통 배경(/images/background.png) 렌더러를 반환합니다.
+     */
+    public static BackgroundRenderer shared() {
+        return forResource(DEFAULT_BACKGROUND);
+    }
+
+    /**
+     * 리소스별 렌더러를 반환합니다. (같은 리소스는 같은 렌더러를 공유)
+     * @param resourcePath 클래스패스 이미지 경로
+     */
+    public static BackgroundRenderer forResource(String resourcePath) {
+        return renderers.computeIfAbsent(resourcePath, BackgroundRenderer::new);
+    }
+
+    /**
+     * 컴포넌트 전체에 배경을 그립니다. paintComponent에서 호출합니다.
+     * 이미지가 없으면 대체 색상으로 채웁니다.
+     * @param component 배경을 그릴 컴포넌트
+     * @param g 컴포넌트의 Graphics
+     */
+    public void paint(Component component, Graphics g) {
+        int width = component.getWidth();
+        int height = component.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        BufferedImage image = source();
+        if (image == null) {
+            g.setColor(FALLBACK_COLOR);
+            g.fillRect(0, 0, width, height);
+            return;
+        }
+
+        Surface surface = surfaces.computeIfAbsent(new Dimension(width, height),
+                size -> new Surface(ImageScaler.scale(image, size.width, size.height)));
+        surface.draw(g, component.getGraphicsConfiguration());
+    }
+
+    private synchronized BufferedImage source() {
+        if (!loaded) {
+            loaded = true;
+            try {
+                URL imageUrl = getClass().getResource(resourcePath);
+                if (imageUrl != null) {
+                    source = ImageIO.read(imageUrl);
+                } else {
+                    System.err.println("오류: 배경 이미지를 찾을 수 없습니다. 경로: " + resourcePath);
+                }
+            } catch (Exception e) {
+                source = null;
+                System.err.println("배경 이미지 로드 중 상세 오류: " + e.getMessage());
+            }
+        }
+        return source;
+    }
+
+    /**
+     * 한 크기의 배경 (스케일링된 이미지 + 그래픽 메모리 사본)
+     */
+    private static class Surface {
+        private final BufferedImage scaled;
+        private VolatileImage accelerated;
+
+        Surface(BufferedImage scaled) {
+            this.scaled = scaled;
+        }
+
+        void draw(Graphics g, GraphicsConfiguration gc) {
+            if (gc != null) {
+                // 그리는 도중 그래픽 메모리를 잃으면 한 번 더 시도
+                for (int attempt = 0; attempt < 2; attempt++) {
+                    if (!validate(gc)) {
+                        break;
+                    }
+                    g.drawImage(accelerated, 0, 0, null);
+                    if (!accelerated.contentsLost()) {
+                        return;
+                    }
+                }
+            }
+            // 화면 정보가 없거나 가속 이미지를 쓸 수 없으면 스케일링된 이미지를 그대로 그림
+            g.drawImage(scaled, 0, 0, null);
+        }
+
+        private boolean validate(GraphicsConfiguration gc) {
+            int status = accelerated == null ? VolatileImage.IMAGE_INCOMPATIBLE : accelerated.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                flush();
+                try {
+                    accelerated = gc.createCompatibleVolatileImage(scaled.getWidth(), scaled.getHeight(),
+                            scaled.getTransparency());
+                } catch (RuntimeException e) {
+                    accelerated = null;
+                }
+                if (accelerated == null) {
+                    return false;
+                }
+                status = VolatileImage.IMAGE_RESTORED;
+            }
+            if (status == VolatileImage.IMAGE_RESTORED) {
+                Graphics2D vg = accelerated.createGraphics();
+                vg.setComposite(AlphaComposite.Src);
+                vg.drawImage(scaled, 0, 0, null);
+                vg.dispose();
+            }
+            return true;
+        }
+
+        void flush() {
+            if (accelerated != null) {
+                accelerated.flush();
+                accelerated = null;
+            }
+        }
+    }
+}
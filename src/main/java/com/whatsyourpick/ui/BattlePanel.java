@@ -1,15 +1,17 @@
 package com.whatsyourpick.ui;
 
 import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.util.ImageCache;
+import com.whatsyourpick.util.ImagePrefetcher;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.MatteBorder;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -32,50 +34,25 @@ public class BattlePanel extends JPanel {
     private Contestant rightContestant;
     private Runnable backButtonListener; // 헤더 클릭 시 돌아가기 위한 리스너 추가
 
+    // 다음 매치 이미지를 작업 스레드에서 공유 이미지 캐시에 미리 채우는 프리페처
+    private final ImagePrefetcher imagePrefetcher = new ImagePrefetcher(ImageCache.shared(), 500, 480, 2);
+
     // 배경 및 색상 변수 추가 (CategoryPanel과 동일)
-    private BufferedImage backgroundImage;
     private static final Color PINK_COLOR = new Color(241, 113, 151); // #F17197
     private static final Color HEADER_BG_COLOR = new Color(255, 209, 233); // #FFD1E9
 
     public BattlePanel() {
-        // 배경 이미지 로드 로직 추가
-        loadBackgroundImage();
         setLayout(new BorderLayout());
         // setBackground 대신 paintComponent에서 배경을 처리하므로, 기본 배경색은 유지보수 차원에서 제거하거나 transparent하게 둠
         // setBackground(new Color(245, 245, 250));
         initComponents();
     }
 
-    // 배경 이미지 로드 메서드 추가
-    private void loadBackgroundImage() {
-        try {
-            java.net.URL imageUrl = getClass().getResource("/images/background.png");
-
-            if (imageUrl != null) {
-                backgroundImage = ImageIO.read(imageUrl);
-            } else {
-                backgroundImage = null;
-                System.err.println("오류: 배경 이미지를 찾을 수 없습니다. 경로: /images/background.png");
-            }
-        } catch (Exception e) {
-            backgroundImage = null;
-            System.err.println("배경 이미지 로드 중 상세 오류: " + e.getMessage());
-        }
-    }
-
     // paintComponent 메서드 추가 (배경 이미지 그리기)
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-
-        if (backgroundImage != null) {
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-        } else {
-            g.setColor(new Color(255, 243, 253)); // #FFF3FD (배경 이미지 없을 시 대체 색상)
-            g.fillRect(0, 0, getWidth(), getHeight());
-        }
+        BackgroundRenderer.shared().paint(this, g);
     }
 
     private void initComponents() {
@@ -268,67 +245,32 @@ public class BattlePanel extends JPanel {
         System.out.println("🥊 대결: " + left.getName() + " VS " + right.getName());
     }
 
+    /**
+     * 곧 등장할 후보자의 이미지를 백그라운드에서 미리 준비합니다.
+     * @param upcoming 곧 등장할 후보자 (TournamentManager.getUpcomingContestants())
+     */
+    public void prefetch(List<Contestant> upcoming) {
+        List<String> paths = new ArrayList<>(upcoming.size());
+        for (Contestant contestant : upcoming) {
+            paths.add(contestant.getImagePath());
+        }
+        imagePrefetcher.prefetch(paths);
+    }
+
 
     /**
-     * 이미지를 로드하고 663x635로 크롭합니다.
+     * 이미지를 500x480으로 크롭해 표시합니다. 미리 준비된 이미지가 있으면 그대로 사용합니다.
      */
     private void loadImage(JLabel label, String imagePath, String name) {
         try {
-            // 경로 정리 (맨 앞의 / 제거)
-            String cleanPath = imagePath.startsWith("/") ? imagePath.substring(1) : imagePath;
-
-            System.out.println("🖼️  이미지 로드 시도: " + cleanPath + " (이름: " + name + ")");
-
-            // 리소스에서 이미지 로드 시도
-            URL imageUrl = getClass().getClassLoader().getResource(cleanPath);
-
-            if (imageUrl != null) {
-                BufferedImage originalImg = ImageIO.read(imageUrl);
-
-                if (originalImg != null && originalImg.getWidth() > 0 && originalImg.getHeight() > 0) {
-                    // 타겟 크기
-                    int targetWidth = 500;
-                    int targetHeight = 480;
-
-                    // 원본 이미지의 비율 계산
-                    double imgRatio = (double) originalImg.getWidth() / originalImg.getHeight();
-                    double targetRatio = (double) targetWidth / targetHeight;
-
-                    int cropWidth, cropHeight;
-
-                    // 이미지를 크롭할 크기 결정 (중앙에서 잘라내기)
-                    if (imgRatio > targetRatio) {
-                        // 이미지가 더 넓음 - 높이를 기준으로 폭을 자름
-                        cropHeight = originalImg.getHeight();
-                        cropWidth = (int) (cropHeight * targetRatio);
-                    } else {
-                        // 이미지가 더 높음 - 폭을 기준으로 높이를 자름
-                        cropWidth = originalImg.getWidth();
-                        cropHeight = (int) (cropWidth / targetRatio);
-                    }
-
-                    // 중앙에서 크롭
-                    int x = (originalImg.getWidth() - cropWidth) / 2;
-                    int y = (originalImg.getHeight() - cropHeight) / 2;
-
-                    BufferedImage croppedImg = originalImg.getSubimage(x, y, cropWidth, cropHeight);
-
-                    // 타겟 크기로 스케일링
-                    Image scaledImage = croppedImg.getScaledInstance(targetWidth, targetHeight, Image.SCALE_SMOOTH);
-
-                    label.setIcon(new ImageIcon(scaledImage));
-                    label.setText("");
-                    System.out.println("✅ 이미지 로드 성공: " + name);
-                } else {
-                    setImageNotFound(label, name, "이미지 크기 0");
-                }
-            } else {
-                setImageNotFound(label, name, "리소스를 찾을 수 없음: " + cleanPath);
-            }
+            System.out.println("🖼️  이미지 로드 시도: " + imagePath + " (이름: " + name + ")");
 
+            BufferedImage image = imagePrefetcher.get(imagePath);
+            label.setIcon(new PreparedImageIcon(image));
+            label.setText("");
+            System.out.println("✅ 이미지 로드 성공: " + name);
         } catch (Exception e) {
             setImageNotFound(label, name, e.getMessage());
-            e.printStackTrace();
         }
     }
 
@@ -379,6 +321,7 @@ public class BattlePanel extends JPanel {
         private boolean isDimmed = false;
         private boolean isSelected = false;
         private static final Color PINK_COLOR = new Color(241, 113, 151); // #F17197
+        private final RoundedImageRenderer renderer = new RoundedImageRenderer();
 
         public RoundedImageLabel(int cornerRadius) {
             this.cornerRadius = cornerRadius;
@@ -397,37 +340,16 @@ public class BattlePanel extends JPanel {
 
         @Override
         protected void paintComponent(Graphics g) {
-            Graphics2D g2 = (Graphics2D) g.create();
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-            // 아이콘이 있을 경우 둥근 모서리로 클리핑
-            if (getIcon() != null && getIcon() instanceof ImageIcon) {
-                ImageIcon icon = (ImageIcon) getIcon();
-                Image img = icon.getImage();
-
-                // 둥근 사각형으로 클리핑
-                g2.setClip(new java.awt.geom.RoundRectangle2D.Float(0, 0, getWidth(), getHeight(), cornerRadius, cornerRadius));
-                g2.drawImage(img, 0, 0, getWidth(), getHeight(), this);
-
-                // dimmed 상태일 경우 거의 완전히 어두운 오버레이
-                if (isDimmed) {
-                    g2.setColor(new Color(0, 0, 0, 250)); // 거의 완전히 검정
-                    g2.fillRoundRect(0, 0, getWidth(), getHeight(), cornerRadius, cornerRadius);
-                }
-
-                // selected 상태일 경우 두꺼운 핑크 테두리
-                if (isSelected) {
-                    g2.setClip(null); // 클립 제거
-                    g2.setColor(PINK_COLOR);
-                    g2.setStroke(new BasicStroke(12)); // 12px 두께
-                    g2.drawRoundRect(6, 6, getWidth() - 12, getHeight() - 12, cornerRadius, cornerRadius);
-                }
+            // 아이콘이 있을 경우 미리 합성해 둔 둥근 이미지를 한 번에 그림
+            if (getIcon() instanceof ImageIcon) {
+                Image img = ((ImageIcon) getIcon()).getImage();
+                // selected 상태일 경우 두꺼운 핑크 테두리 (12px)
+                g.drawImage(renderer.render(img, getWidth(), getHeight(), cornerRadius,
+                        isDimmed, isSelected ? PINK_COLOR : null, 12), 0, 0, null);
             } else {
                 // 아이콘이 없을 경우 기본 텍스트 표시
                 super.paintComponent(g);
             }
-
-            g2.dispose();
         }
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.whatsyourpick.ui;
 
 import com.whatsyourpick.model.Category;
+import com.whatsyourpick.util.ImageCache;
+import com.whatsyourpick.util.ImageLoader;
 import javax.swing.*;
 import javax.swing.border.MatteBorder;
 import java.awt.*;
@@ -8,9 +10,9 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
+import java.io.IOException;
 import java.util.List;
 import java.util.function.Consumer;
-import javax.imageio.ImageIO;
 
 /* 카테고리 선택 화면 패널 */
 public class CategoryPanel extends JPanel {
@@ -18,53 +20,20 @@ public class CategoryPanel extends JPanel {
     private Consumer<Category> categorySelectListener;
     private Runnable backButtonListener;
     private JPanel gridPanel;
-    private BufferedImage scaledBackground;
     private static final Color PINK_COLOR = new Color(241, 113, 151); // #F17197
     private static final Color HEADER_BG_COLOR = new Color(255, 209, 233); // #FFD1E9
-    private static final Color BACKGROUND_COLOR = new Color(255, 243, 253); // #FFF3FD
 
     private static final int CARD_SIZE = 250;
-    private static final int WINDOW_WIDTH = 1200;
-    private static final int WINDOW_HEIGHT = 800;
 
     public CategoryPanel() {
         setLayout(new BorderLayout());
-        loadAndScaleBackground();
         initComponents();
     }
 
-    private void loadAndScaleBackground() {
-        try {
-            BufferedImage originalBg = ImageIO.read(getClass().getResourceAsStream("/images/background.png"));
-            if (originalBg != null) {
-                // 한 번만 리사이징해서 캐시
-                scaledBackground = new BufferedImage(WINDOW_WIDTH, WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
-                Graphics2D g2d = scaledBackground.createGraphics();
-                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                g2d.drawImage(originalBg, 0, 0, WINDOW_WIDTH, WINDOW_HEIGHT, null);
-                g2d.dispose();
-                // 원본 이미지는 메모리에서 해제
-                originalBg.flush();
-            }
-        } catch (Exception e) {
-            scaledBackground = null;
-            System.out.println("배경 이미지를 찾을 수 없습니다.");
-            if (e != null) {
-                System.err.println("상세 오류: " + e.getMessage());
-            }
-        }
-    }
-
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-
-        if (scaledBackground != null) {
-            g.drawImage(scaledBackground, 0, 0, getWidth(), getHeight(), this);
-        } else {
-            g.setColor(BACKGROUND_COLOR);
-            g.fillRect(0, 0, getWidth(), getHeight());
-        }
+        BackgroundRenderer.shared().paint(this, g);
     }
 
     private void initComponents() {
@@ -141,17 +110,15 @@ public class CategoryPanel extends JPanel {
         imageLabel.setPreferredSize(new Dimension(240, 230));
         imageLabel.setOpaque(false);
 
-        // 이미지 로드 시도
+        // 이미지 로드 시도 (카테고리 화면에 돌아올 때마다 다시 디코딩하지 않도록 공유 캐시 사용)
         try {
-            BufferedImage img = ImageIO.read(getClass().getResourceAsStream("/" + category.getImagePath()));
-            if (img != null) {
-                Image scaledImage = img.getScaledInstance(240, 230, Image.SCALE_SMOOTH);
-                imageLabel.setIcon(new ImageIcon(scaledImage));
-            } else {
-                imageLabel.setText("이미지 없음: " + category.getImagePath());
-                imageLabel.setFont(FontManager.getDungGeunMo(12f));
-                System.err.println("이미지를 찾을 수 없습니다: " + category.getImagePath());
-            }
+            BufferedImage img = ImageCache.shared().get(category.getImagePath(), 240, 230,
+                    ImageLoader.CropMode.STRETCH);
+            imageLabel.setIcon(new PreparedImageIcon(img));
+        } catch (IOException e) {
+            imageLabel.setText("이미지 없음: " + category.getImagePath());
+            imageLabel.setFont(FontManager.getDungGeunMo(12f));
+            System.err.println("이미지를 찾을 수 없습니다: " + category.getImagePath() + " - " + e.getMessage());
         } catch (Exception e) {
             imageLabel.setText("이미지 로드 실패");
             imageLabel.setFont(FontManager.getDungGeunMo(12f));
@@ -161,8 +128,11 @@ public class CategoryPanel extends JPanel {
 
         card.add(imageLabel, BorderLayout.CENTER);
 
-        // 카테고리 이름 (개수 제거)
-        JLabel nameLabel = new JLabel(category.getName(), SwingConstants.CENTER);
+        // 카테고리 이름 (카탈로그에서 후보자 수를 알면 함께 표시)
+        String name = category.getContestantCount() > 0
+                ? category.getName() + " (" + category.getContestantCount() + ")"
+                : category.getName();
+        JLabel nameLabel = new JLabel(name, SwingConstants.CENTER);
         nameLabel.setFont(FontManager.getDungGeunMo(Font.BOLD, 18f));
         nameLabel.setForeground(PINK_COLOR); // #F17197
         nameLabel.setBorder(BorderFactory.createEmptyBorder(15, 10, 15, 10));
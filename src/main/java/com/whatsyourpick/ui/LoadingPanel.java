@@ -0,0 +1,93 @@
+package com.whatsyourpick.ui;
+
+import javax.swing.*;
+import javax.swing.border.MatteBorder;
+import java.awt.*;
+
+/**
+ * 로딩 화면 패널
+ * 데이터베이스 조회 등 시간이 걸리는 작업이 끝날 때까지 표시합니다.
+ */
+public class LoadingPanel extends JPanel {
+
+    private JLabel messageLabel;
+    private JLabel dotsLabel;
+    private Timer dotsTimer;
+    private int dotCount = 0;
+
+    private static final Color PINK_COLOR = new Color(241, 113, 151); // #F17197
+    private static final Color HEADER_BG_COLOR = new Color(255, 209, 233); // #FFD1E9
+
+    public LoadingPanel() {
+        setLayout(new BorderLayout());
+        initComponents();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        BackgroundRenderer.shared().paint(this, g);
+    }
+
+    private void initComponents() {
+        // 상단 헤더 패널 (♥️ Pick Me) - 다른 패널과 동일
+        JPanel headerPanel = new JPanel();
+        headerPanel.setLayout(new FlowLayout(FlowLayout.CENTER, 0, 20));
+        headerPanel.setBackground(HEADER_BG_COLOR);
+        headerPanel.setBorder(new MatteBorder(0, 0, 3, 0, PINK_COLOR));
+        headerPanel.setOpaque(true);
+
+        JLabel headerLabel = new JLabel("\u2665\ufe0f  Pick Me");
+        headerLabel.setFont(FontManager.getPressStart2P(Font.BOLD, 32f));
+        headerLabel.setForeground(PINK_COLOR);
+        headerPanel.add(headerLabel);
+
+        add(headerPanel, BorderLayout.NORTH);
+
+        // 중앙: 로딩 메시지
+        JPanel centerPanel = new JPanel(new GridBagLayout());
+        centerPanel.setOpaque(false);
+
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.gridx = 0;
+        gbc.insets = new Insets(10, 0, 10, 0);
+
+        dotsLabel = new JLabel("LOADING");
+        dotsLabel.setFont(FontManager.getPressStart2P(Font.BOLD, 32f));
+        dotsLabel.setForeground(PINK_COLOR);
+        gbc.gridy = 0;
+        centerPanel.add(dotsLabel, gbc);
+
+        messageLabel = new JLabel("");
+        messageLabel.setFont(FontManager.getDungGeunMo(Font.BOLD, 22f));
+        messageLabel.setForeground(PINK_COLOR);
+        gbc.gridy = 1;
+        centerPanel.add(messageLabel, gbc);
+
+        add(centerPanel, BorderLayout.CENTER);
+
+        // 점(...) 애니메이션 - EDT가 멈추지 않았음을 보여줌
+        dotsTimer = new Timer(400, e -> {
+            dotCount = (dotCount + 1) % 4;
+            dotsLabel.setText("LOADING" + ".".repeat(dotCount));
+        });
+    }
+
+    /**
+     * 로딩 메시지를 표시하고 애니메이션을 시작합니다.
+     * @param message 표시할 메시지
+     */
+    public void start(String message) {
+        messageLabel.setText(message);
+        dotCount = 0;
+        dotsLabel.setText("LOADING");
+        dotsTimer.restart();
+    }
+
+    /**
+     * 애니메이션을 멈춥니다.
+     */
+    public void stop() {
+        dotsTimer.stop();
+    }
+}
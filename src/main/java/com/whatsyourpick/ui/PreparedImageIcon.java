@@ -0,0 +1,48 @@
+package com.whatsyourpick.ui;
+
+import javax.swing.ImageIcon;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+/**
+ * 이미 디코딩된 BufferedImage를 감싸는 아이콘
+ * new ImageIcon(image)는 이미지가 준비될 때까지 MediaTracker로 기다리는 과정을 거치지만,
+ * BufferedImage는 이미 준비되어 있으므로 그 과정을 건너뜁니다.
+ * ImageIcon을 상속하므로 getImage()로 이미지를 꺼내 그리는 레이블에서도 그대로 사용할 수 있습니다.
+ */
+public class PreparedImageIcon extends ImageIcon {
+
+    private final BufferedImage image;
+
+    public PreparedImageIcon(BufferedImage image) {
+        super();
+        this.image = image;
+    }
+
+    @Override
+    public Image getImage() {
+        return image;
+    }
+
+    @Override
+    public int getIconWidth() {
+        return image.getWidth();
+    }
+
+    @Override
+    public int getIconHeight() {
+        return image.getHeight();
+    }
+
+    @Override
+    public int getImageLoadStatus() {
+        return java.awt.MediaTracker.COMPLETE;
+    }
+
+    @Override
+    public synchronized void paintIcon(Component c, Graphics g, int x, int y) {
+        g.drawImage(image, x, y, c);
+    }
+}
@@ -1,6 +1,5 @@
 package com.whatsyourpick.ui;
 
-import java.awt.BasicStroke;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
@@ -19,8 +18,8 @@ import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
+import java.util.List;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
 import javax.swing.ImageIcon;
@@ -31,6 +30,8 @@ import javax.swing.SwingConstants;
 import javax.swing.border.MatteBorder;
 
 import com.whatsyourpick.model.Contestant;
+import com.whatsyourpick.util.ImageCache;
+import com.whatsyourpick.util.ImageLoader;
 
 /**
  * 결과 화면 패널
@@ -41,54 +42,27 @@ public class ResultPanel extends JPanel {
     private JLabel winnerImageLabel;
     private JLabel winnerNameLabel;
     private JLabel resultTextLabel;
+    private JLabel leaderboardLabel;
     private JButton anotherGamesButton;
     private JButton restartButton;
     private String categoryName;
     private Runnable backButtonListener; // 헤더 클릭 시 돌아가기 위한 리스너 추가
 
     // 배경 및 색상 변수 추가 (다른 패널과 동일)
-    private BufferedImage backgroundImage;
     private static final Color PINK_COLOR = new Color(241, 113, 151); // #F17197
     private static final Color HEADER_BG_COLOR = new Color(255, 209, 233); // #FFD1E9
 
     public ResultPanel() {
-        // 배경 이미지 로드 로직 추가
-        loadBackgroundImage();
         setLayout(new BorderLayout());
         // setBackground(new Color(245, 245, 250)); // 배경은 paintComponent에서 처리
         initComponents();
     }
 
-    // 배경 이미지 로드 메서드 추가
-    private void loadBackgroundImage() {
-        try {
-            java.net.URL imageUrl = getClass().getResource("/images/background.png");
-
-            if (imageUrl != null) {
-                backgroundImage = ImageIO.read(imageUrl);
-            } else {
-                backgroundImage = null;
-                System.err.println("오류: 배경 이미지를 찾을 수 없습니다. 경로: /images/background.png");
-            }
-        } catch (Exception e) {
-            backgroundImage = null;
-            System.err.println("배경 이미지 로드 중 상세 오류: " + e.getMessage());
-        }
-    }
-
     // paintComponent 메서드 추가 (배경 이미지 그리기)
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-
-        if (backgroundImage != null) {
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-        } else {
-            g.setColor(new Color(255, 243, 253)); // #FFF3FD (배경 이미지 없을 시 대체 색상)
-            g.fillRect(0, 0, getWidth(), getHeight());
-        }
+        BackgroundRenderer.shared().paint(this, g);
     }
 
     private void initComponents() {
@@ -219,6 +193,14 @@ public class ResultPanel extends JPanel {
         rightGbc.gridy = 2;
         rightPanel.add(restartButton, rightGbc);
 
+        // 카테고리 인기 순위 (TOP 5)
+        leaderboardLabel = new JLabel("");
+        leaderboardLabel.setFont(FontManager.getDungGeunMo(18f));
+        leaderboardLabel.setForeground(new Color(120, 120, 120));
+        rightGbc.gridy = 3;
+        rightGbc.insets = new Insets(30, 0, 0, 0);
+        rightPanel.add(leaderboardLabel, rightGbc);
+
         gbc.gridx = 1;
         mainPanel.add(rightPanel, gbc);
 
@@ -242,65 +224,34 @@ public class ResultPanel extends JPanel {
     }
 
     /**
-     * 이미지를 로드하고 500x480으로 크롭합니다.
+     * 카테고리 인기 순위를 표시합니다.
+     * @param rows 순위 순서의 표시 문자열 (비어 있으면 순위를 숨김)
+     */
+    public void setLeaderboard(List<String> rows) {
+        if (rows.isEmpty()) {
+            leaderboardLabel.setText("");
+            return;
+        }
+        StringBuilder html = new StringBuilder("<html><center>인기 TOP ").append(rows.size()).append("<br>");
+        for (int i = 0; i < rows.size(); i++) {
+            html.append(i + 1).append(". ").append(rows.get(i)).append("<br>");
+        }
+        leaderboardLabel.setText(html.append("</center></html>").toString());
+    }
+
+    /**
+     * 이미지를 로드하고 500x480으로 크롭합니다. (대결 화면과 같은 이미지 캐시 사용)
      */
     private void loadImage(String imagePath) {
         try {
-            // 경로 정리 (맨 앞의 / 제거)
-            String cleanPath = imagePath.startsWith("/") ? imagePath.substring(1) : imagePath;
-
-            System.out.println("🖼️  이미지 로드 시도: " + cleanPath);
-
-            // 리소스에서 이미지 로드 시도
-            java.net.URL imageUrl = getClass().getClassLoader().getResource(cleanPath);
-
-            if (imageUrl != null) {
-                BufferedImage originalImg = ImageIO.read(imageUrl);
-
-                if (originalImg != null && originalImg.getWidth() > 0 && originalImg.getHeight() > 0) {
-                    // 타겟 크기
-                    int targetWidth = 500;
-                    int targetHeight = 480;
-
-                    // 원본 이미지의 비율 계산
-                    double imgRatio = (double) originalImg.getWidth() / originalImg.getHeight();
-                    double targetRatio = (double) targetWidth / targetHeight;
-
-                    int cropWidth, cropHeight;
-
-                    // 이미지를 크롭할 크기 결정 (중앙에서 잘라내기)
-                    if (imgRatio > targetRatio) {
-                        // 이미지가 더 넓음 - 높이를 기준으로 폭을 자름
-                        cropHeight = originalImg.getHeight();
-                        cropWidth = (int) (cropHeight * targetRatio);
-                    } else {
-                        // 이미지가 더 높음 - 폭을 기준으로 높이를 자름
-                        cropWidth = originalImg.getWidth();
-                        cropHeight = (int) (cropWidth / targetRatio);
-                    }
-
-                    // 중앙에서 크롭
-                    int x = (originalImg.getWidth() - cropWidth) / 2;
-                    int y = (originalImg.getHeight() - cropHeight) / 2;
-
-                    BufferedImage croppedImg = originalImg.getSubimage(x, y, cropWidth, cropHeight);
-
-                    // 타겟 크기로 스케일링
-                    Image scaledImage = croppedImg.getScaledInstance(targetWidth, targetHeight, Image.SCALE_SMOOTH);
-
-                    winnerImageLabel.setIcon(new ImageIcon(scaledImage));
-                    winnerImageLabel.setText("");
-                    System.out.println("✅ 이미지 로드 성공");
-                } else {
-                    setImageNotFound("이미지 크기 0");
-                }
-            } else {
-                setImageNotFound("리소스를 찾을 수 없음: " + cleanPath);
-            }
+            System.out.println("🖼️  이미지 로드 시도: " + imagePath);
 
+            BufferedImage image = ImageCache.shared().get(imagePath, 500, 480, ImageLoader.CropMode.CENTER);
+            winnerImageLabel.setIcon(new PreparedImageIcon(image));
+            winnerImageLabel.setText("");
+            System.out.println("✅ 이미지 로드 성공");
         } catch (Exception e) {
             setImageNotFound(e.getMessage());
-            e.printStackTrace();
         }
     }
 
@@ -376,6 +327,7 @@ public class ResultPanel extends JPanel {
         private int cornerRadius = 30;   // 둥근 정도
         private Color borderColor = new Color(255, 215, 0); // 금색
         private int borderThickness = 5;
+        private final RoundedImageRenderer renderer = new RoundedImageRenderer();
 
         public RoundedLabel() {
             super();
@@ -399,33 +351,15 @@ public class ResultPanel extends JPanel {
 
         @Override
         protected void paintComponent(Graphics g) {
-            Graphics2D g2 = (Graphics2D) g.create();
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-            // 아이콘이 있을 경우 둥근 모서리로 클리핑
-            if (getIcon() != null && getIcon() instanceof ImageIcon) {
-                ImageIcon icon = (ImageIcon) getIcon();
-                Image img = icon.getImage();
-
-                // 둥근 사각형으로 클리핑
-                g2.setClip(new java.awt.geom.RoundRectangle2D.Float(0, 0, getWidth(), getHeight(), cornerRadius, cornerRadius));
-                g2.drawImage(img, 0, 0, getWidth(), getHeight(), this);
-
-                // 테두리
-                if (borderThickness > 0) {
-                    g2.setClip(null); // 클립 제거
-                    g2.setColor(borderColor);
-                    g2.setStroke(new BasicStroke(borderThickness));
-                    g2.drawRoundRect(borderThickness / 2, borderThickness / 2,
-                            getWidth() - borderThickness, getHeight() - borderThickness,
-                            cornerRadius, cornerRadius);
-                }
+            // 아이콘이 있을 경우 미리 합성해 둔 둥근 이미지(테두리 포함)를 한 번에 그림
+            if (getIcon() instanceof ImageIcon) {
+                Image img = ((ImageIcon) getIcon()).getImage();
+                g.drawImage(renderer.render(img, getWidth(), getHeight(), cornerRadius,
+                        false, borderColor, borderThickness), 0, 0, null);
             } else {
                 // 아이콘이 없을 경우 기본 텍스트 표시
                 super.paintComponent(g);
             }
-
-            g2.dispose();
         }
     }
 }
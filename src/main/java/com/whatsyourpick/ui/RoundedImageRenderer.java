@@ -0,0 +1,91 @@
+package com.whatsyourpick.ui;
+
+import com.whatsyourpick.util.ImageScaler;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 둥근 모서리 이미지 라벨의 합성 결과를 보관하는 렌더러 (라벨마다 하나씩 사용)
+ * 둥근 마스크, 어둡게 처리, 테두리를 이미지/크기/상태별로 한 번만 합성해 두므로
+ * 다시 그릴 때는 완성된 이미지를 한 번 복사하기만 하면 됩니다.
+ * 이미지나 크기가 바뀌면 보관본을 모두 버립니다. EDT에서만 사용합니다.
+ */
+class RoundedImageRenderer {
+
+    private static final Color DIM_COLOR = new Color(0, 0, 0, 250); // 거의 완전히 검정
+
+    private Image source;
+    private int width;
+    private int height;
+    private int cornerRadius;
+    private final Map<String, BufferedImage> variants = new HashMap<>();
+
+    /**
+     * 합성된 이미지를 반환합니다. 같은 조건이면 보관해 둔 이미지를 그대로 반환합니다.
+     * @param image 원본 이미지 (이미 로드된 이미지)
+     * @param width 폭
+     * @param height 높이
+     * @param cornerRadius 모서리 둥근 정도
+     * @param dimmed 어둡게 덮을지 여부
+     * @param borderColor 테두리 색 (null이면 테두리 없음)
+     * @param borderThickness 테두리 두께
+     * @return 합성된 이미지
+     */
+    BufferedImage render(Image image, int width, int height, int cornerRadius,
+                         boolean dimmed, Color borderColor, int borderThickness) {
+        if (image != source || width != this.width || height != this.height || cornerRadius != this.cornerRadius) {
+            variants.clear();
+            source = image;
+            this.width = width;
+            this.height = height;
+            this.cornerRadius = cornerRadius;
+        }
+
+        boolean bordered = borderColor != null && borderThickness > 0;
+        String key = dimmed + "/" + (bordered ? borderColor.getRGB() + "/" + borderThickness : "-");
+        BufferedImage result = variants.get(key);
+        if (result == null) {
+            result = composite(image, dimmed, bordered ? borderColor : null, borderThickness);
+            variants.put(key, result);
+        }
+        return result;
+    }
+
+    private BufferedImage composite(Image image, boolean dimmed, Color borderColor, int borderThickness) {
+        BufferedImage result = ImageScaler.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        Graphics2D g2 = result.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+        // 둥근 마스크를 먼저 그리고 그 안쪽에만 이미지를 그림 (가장자리도 안티앨리어싱됨)
+        g2.setColor(Color.WHITE);
+        g2.fillRoundRect(0, 0, width, height, cornerRadius, cornerRadius);
+        g2.setComposite(AlphaComposite.SrcIn);
+        g2.drawImage(image, 0, 0, width, height, null);
+        g2.setComposite(AlphaComposite.SrcOver);
+
+        if (dimmed) {
+            g2.setColor(DIM_COLOR);
+            g2.fillRoundRect(0, 0, width, height, cornerRadius, cornerRadius);
+        }
+
+        if (borderColor != null) {
+            g2.setColor(borderColor);
+            g2.setStroke(new BasicStroke(borderThickness));
+            g2.drawRoundRect(borderThickness / 2, borderThickness / 2,
+                    width - borderThickness, height - borderThickness, cornerRadius, cornerRadius);
+        }
+
+        g2.dispose();
+        return result;
+    }
+}
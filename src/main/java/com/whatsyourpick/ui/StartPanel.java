@@ -3,45 +3,21 @@ package com.whatsyourpick.ui;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 
 public class StartPanel extends JPanel {
 
     private RoundedButton startButton;
-    private BufferedImage backgroundImage;
     private static final Color PINK_COLOR = new Color(241, 113, 151); // #F17197
 
     public StartPanel() {
         setLayout(new GridBagLayout());
-        loadBackgroundImage();
         initComponents();
     }
 
-    private void loadBackgroundImage() {
-        try {            backgroundImage = ImageIO.read(getClass().getResourceAsStream("/images/start-background.png"));
-        } catch (Exception e) {
-            // 배경 이미지가 없으면 null 처리
-            backgroundImage = null;
-            System.out.println("배경 이미지를 찾을 수 없습니다. 단색 배경을 사용합니다.");
-            if (e != null) {
-                System.err.println("상세 오류: " + e.getMessage());
-            }
-        }
-    }
-
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-
-        if (backgroundImage != null) {
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-        } else {
-            g.setColor(new Color(255, 243, 253)); // #FFF3FD
-            g.fillRect(0, 0, getWidth(), getHeight());
-        }
+        BackgroundRenderer.forResource("/images/start-background.png").paint(this, g);
     }
 
     private void initComponents() {
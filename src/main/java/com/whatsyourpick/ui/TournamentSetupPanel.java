@@ -1,8 +1,10 @@
 package com.whatsyourpick.ui;
 
+import com.whatsyourpick.game.TournamentEngine;
 import com.whatsyourpick.model.Category;
+import com.whatsyourpick.util.ImageCache;
+import com.whatsyourpick.util.ImageLoader;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.MatteBorder;
@@ -29,49 +31,20 @@ public class TournamentSetupPanel extends JPanel {
     private Category selectedCategory;
 
     // 배경 및 색상 변수 추가
-    private BufferedImage backgroundImage;
     private static final Color PINK_COLOR = new Color(241, 113, 151); // #F17197
     private static final Color HEADER_BG_COLOR = new Color(255, 209, 233); // #FFD1E9
 
     public TournamentSetupPanel() {
-        // 배경 이미지 로드 로직 추가
-        loadBackgroundImage();
         setLayout(new BorderLayout());
         roundButtons = new HashMap<>();
         initComponents();
     }
 
-    // 배경 이미지 로드 메서드 추가
-    private void loadBackgroundImage() {
-        try {
-            // getClass().getResourceAsStream() 대신 URL을 사용하여 좀 더 명확하게 처리
-            java.net.URL imageUrl = getClass().getResource("/images/background.png");
-
-            if (imageUrl != null) {
-                backgroundImage = ImageIO.read(imageUrl);
-            } else {
-                backgroundImage = null;
-                System.err.println("오류: 배경 이미지를 찾을 수 없습니다. 경로: /images/background.png");
-            }
-        } catch (Exception e) {
-            backgroundImage = null;
-            System.err.println("배경 이미지 로드 중 상세 오류: " + e.getMessage());
-        }
-    }
-
     // paintComponent 메서드 추가 (배경 이미지 그리기)
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-
-        if (backgroundImage != null) {
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), this);
-        } else {
-            g.setColor(new Color(255, 243, 253)); // #FFF3FD (배경 이미지 없을 시 대체 색상)
-            g.fillRect(0, 0, getWidth(), getHeight());
-        }
+        BackgroundRenderer.shared().paint(this, g);
     }
 
     private void initComponents() {
@@ -149,14 +122,17 @@ public class TournamentSetupPanel extends JPanel {
         gbc.gridx = 0;
         gbc.insets = new Insets(10, 0, 10, 0);
 
-        // 라운드 버튼들
-        gbc.insets = new Insets(10, 0, 10, 0);
-        int[] rounds = {4, 8, 16, 32, 64};
+        // 라운드 버튼들 (2열, 마지막은 카테고리 전체)
+        // 2의 거듭제곱이 아니거나 후보자가 모자라면 첫 라운드에 부전승이 생김
+        int[] rounds = {4, 8, 16, 32, 64, 128, 256, TournamentEngine.ALL_CONTESTANTS};
         for (int i = 0; i < rounds.length; i++) {
             int round = rounds[i];
-            RoundedButton roundButton = createRoundButton(round + " Round", round);
+            String text = round == TournamentEngine.ALL_CONTESTANTS ? "ALL" : round + " Round";
+            RoundedButton roundButton = createRoundButton(text, round);
             roundButtons.put(round, roundButton);
-            gbc.gridy = i + 1;
+            gbc.gridx = i % 2;
+            gbc.gridy = i / 2 + 1;
+            gbc.insets = new Insets(8, i % 2 == 0 ? 0 : 5, 8, i % 2 == 0 ? 5 : 0);
             rightPanel.add(roundButton, gbc);
         }
 
@@ -170,7 +146,9 @@ public class TournamentSetupPanel extends JPanel {
         startButton.setFont(FontManager.getPressStart2P(20f));
         startButton.setPreferredSize(new Dimension(400, 70));
         startButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        gbc.gridy = rounds.length + 1;
+        gbc.gridx = 0;
+        gbc.gridy = (rounds.length + 1) / 2 + 1;
+        gbc.gridwidth = 2;
         gbc.insets = new Insets(40, 0, 0, 0);
         rightPanel.add(startButton, gbc);
 
@@ -183,8 +161,8 @@ public class TournamentSetupPanel extends JPanel {
      */
     private RoundedButton createRoundButton(String text, int round) {
         RoundedButton button = new RoundedButton(text);
-        button.setFont(FontManager.getPressStart2P(20f));
-        button.setPreferredSize(new Dimension(400, 70));
+        button.setFont(FontManager.getPressStart2P(14f));
+        button.setPreferredSize(new Dimension(195, 60));
         button.setCursor(new Cursor(Cursor.HAND_CURSOR));
 
         button.addActionListener(e -> {
@@ -225,16 +203,11 @@ public class TournamentSetupPanel extends JPanel {
 
         // 이미지 로드 시도
         try {
-            BufferedImage img = ImageIO.read(getClass().getResourceAsStream("/" + category.getImagePath()));
-            if (img != null) {
-                // 이미지를 560x537로 스케일링 (레이블 크기에 맞춤)
-                Image scaledImage = img.getScaledInstance(560, 537, Image.SCALE_SMOOTH);
-                categoryImageLabel.setIcon(new ImageIcon(scaledImage));
-                categoryImageLabel.setText("");
-            } else {
-                categoryImageLabel.setText("이미지 없음");
-                categoryImageLabel.setFont(FontManager.getDungGeunMo(16f));
-            }
+            // 이미지를 560x537로 스케일링 (레이블 크기에 맞춤)
+            BufferedImage img = ImageCache.shared().get(category.getImagePath(), 560, 537,
+                    ImageLoader.CropMode.STRETCH);
+            categoryImageLabel.setIcon(new PreparedImageIcon(img));
+            categoryImageLabel.setText("");
         } catch (Exception e) {
             categoryImageLabel.setText("이미지 없음");
             categoryImageLabel.setFont(FontManager.getDungGeunMo(16f));
@@ -258,6 +231,7 @@ public class TournamentSetupPanel extends JPanel {
 
     /**
      * 선택된 라운드를 반환합니다.
+     * @return 토너먼트 규모 (카테고리 전체면 TournamentEngine.ALL_CONTESTANTS, 선택 전이면 0)
      */
     public int getSelectedRound() {
         return selectedRound;
@@ -0,0 +1,189 @@
+package com.whatsyourpick.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이미지 아틀라스 파일을 메모리 매핑으로 읽는 클래스 (형식은 ImageAtlasWriter 참고)
+ * 열 때 인덱스만 읽어 두고, 썸네일은 인덱스 한 번 조회로 찾은 위치를 복사 없이 스트림으로 읽습니다.
+ * 절대 위치 읽기와 복제한 버퍼만 사용하므로 여러 스레드에서 동시에 읽어도 안전합니다.
+ */
+public class ImageAtlas {
+
+    public static final String DEFAULT_PATH = "images.atlas";
+
+    private static final ImageAtlas EMPTY = new ImageAtlas(null, null, Collections.emptyMap());
+    private static volatile ImageAtlas shared;
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final Map<String, int[]> entries; // 키 -> {데이터 위치, 데이터 길이}
+
+    private ImageAtlas(Path file, MappedByteBuffer buffer, Map<String, int[]> entries) {
+        this.file = file;
+        this.buffer = buffer;
+        this.entries = entries;
+    }
+
+    /**
+     * 앱 전체에서 공유하는 아틀라스를 반환합니다. (처음 호출 시 한 번 엶)
+     * -Dwyp.image.atlas로 파일을 지정하며(기본 images.atlas), 파일이 없거나 읽을 수 없으면 빈 아틀라스를 반환합니다.
+     */
+    public static ImageAtlas shared() {
+        ImageAtlas atlas = shared;
+        if (atlas == null) {
+            synchronized (ImageAtlas.class) {
+                atlas = shared;
+                if (atlas == null) {
+                    atlas = openShared();
+                    shared = atlas;
+                }
+            }
+        }
+        return atlas;
+    }
+
+    private static ImageAtlas openShared() {
+        Path file = Paths.get(System.getProperty("wyp.image.atlas", DEFAULT_PATH));
+        if (!Files.isRegularFile(file)) {
+            return EMPTY;
+        }
+        try {
+            ImageAtlas atlas = open(file);
+            System.out.println("🗂️  이미지 아틀라스 사용: " + file + " (" + atlas.size() + "개)");
+            return atlas;
+        } catch (IOException e) {
+            System.err.println("⚠️  이미지 아틀라스를 열 수 없어 사용하지 않습니다: " + e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    /**
+     * 아틀라스 파일을 메모리 매핑으로 엽니다.
+     * @param file 아틀라스 파일 경로
+     * @return 아틀라스
+     * @throws IOException 파일이 없거나 형식이 잘못되었을 때
+     */
+    public static ImageAtlas open(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("아틀라스 파일이 너무 큽니다: " + file);
+            }
+            // 매핑은 채널을 닫은 뒤에도 유효함
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.capacity() < ImageAtlasWriter.HEADER_SIZE || buffer.getInt(0) != ImageAtlasWriter.MAGIC) {
+            throw new IOException("아틀라스 파일이 아닙니다: " + file);
+        }
+        int version = buffer.getInt(4);
+        if (version != ImageAtlasWriter.VERSION) {
+            throw new IOException("지원하지 않는 아틀라스 버전입니다: " + version
+                    + " (필요: " + ImageAtlasWriter.VERSION + ", 아틀라스를 다시 만드세요) " + file);
+        }
+        int count = buffer.getInt(8);
+        long indexOffset = buffer.getLong(16);
+        if (count < 0 || indexOffset < ImageAtlasWriter.HEADER_SIZE || indexOffset > buffer.capacity()) {
+            throw new IOException("아틀라스 파일이 손상되었습니다: " + file);
+        }
+
+        // 인덱스는 작으므로 열 때 읽어 둠
+        Map<String, int[]> entries = new HashMap<>(count * 2);
+        ByteBuffer index = buffer.duplicate();
+        index.position((int) indexOffset);
+        try {
+            for (int i = 0; i < count; i++) {
+                byte[] key = new byte[index.getInt()];
+                index.get(key);
+                int offset = index.getInt();
+                int length = index.getInt();
+                if (offset < ImageAtlasWriter.HEADER_SIZE || length < 0 || (long) offset + length > indexOffset) {
+                    throw new IOException("아틀라스 인덱스가 손상되었습니다: " + file);
+                }
+                entries.put(new String(key, StandardCharsets.UTF_8), new int[]{offset, length});
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("아틀라스 인덱스가 손상되었습니다: " + file, e);
+        }
+        return new ImageAtlas(file, buffer, entries);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 썸네일 데이터를 스트림으로 엽니다.
+     * @param sourcePath 원본 경로 (맨 앞의 / 없이)
+     * @param width 목표 폭
+     * @param height 목표 높이
+     * @param cropMode 크롭 방식
+     * @return 썸네일(JPEG/PNG) 데이터 스트림, 없으면 null
+     */
+    public InputStream open(String sourcePath, int width, int height, ImageLoader.CropMode cropMode) {
+        int[] entry = entries.get(ThumbnailManifest.key(sourcePath, width, height, cropMode));
+        if (entry == null) {
+            return null;
+        }
+        ByteBuffer data = buffer.duplicate();
+        data.position(entry[0]).limit(entry[0] + entry[1]);
+        return new BufferInputStream(data);
+    }
+
+    /**
+     * 매핑된 버퍼의 일부를 복사 없이 읽는 스트림
+     */
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer data;
+
+        BufferInputStream(ByteBuffer data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read() {
+            return data.hasRemaining() ? data.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!data.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, data.remaining());
+            data.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, data.remaining()));
+            data.position(data.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return data.remaining();
+        }
+    }
+}
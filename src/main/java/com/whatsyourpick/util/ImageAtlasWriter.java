@@ -0,0 +1,135 @@
+package com.whatsyourpick.util;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 렌더링된 썸네일(ThumbnailRenderer 결과)을 하나의 아틀라스 파일로 묶는 도구
+ * JAR 안의 수백 개 리소스를 하나씩 찾고 압축 해제하는 대신, 파일 하나를 메모리 매핑해 바로 읽을 수 있습니다.
+ *
+ * 파일 형식 (버전 1, 빅엔디안):
+ * <pre>
+ * [헤더 24바이트]
+ *   int MAGIC ('WYPA'), int VERSION, int 항목 수, int 예약(0), long 인덱스 위치
+ * [이미지 데이터]
+ *   썸네일 파일(JPEG/PNG) 바이트를 그대로 연속 배치
+ * [인덱스] 항목마다
+ *   int 키 바이트 길이, byte[] 키 (UTF-8, "폭x높이/크롭 방식/원본 경로"), int 데이터 위치, int 데이터 길이
+ * </pre>
+ */
+public class ImageAtlasWriter {
+
+    public static final int MAGIC = 0x57595041; // "WYPA"
+    public static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 24;
+
+    private ImageAtlasWriter() {
+    }
+
+    /**
+     * 썸네일 디렉토리의 목록(thumbnails/manifest.tsv)에 있는 모든 썸네일을 아틀라스 파일로 저장합니다.
+     * 임시 파일에 쓴 뒤 교체하므로, 실행 중인 앱이 매핑한 파일이 깨지지 않습니다.
+     * @param thumbnailDir 썸네일 디렉토리 (thumbnails/가 있는 곳)
+     * @param output 출력 파일 경로
+     * @return 저장한 항목 수
+     * @throws IOException 파일 읽기/쓰기 오류
+     */
+    public static int write(Path thumbnailDir, Path output) throws IOException {
+        List<String[]> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(
+                thumbnailDir.resolve(ThumbnailManifest.MANIFEST_PATH), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\t");
+                if (fields.length != 5) {
+                    throw new IOException("잘못된 썸네일 목록 행: " + line);
+                }
+                entries.add(fields);
+            }
+        }
+
+        Path parent = output.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, output.getFileName().toString(), ".tmp");
+
+        List<byte[]> keys = new ArrayList<>(entries.size());
+        int[] offsets = new int[entries.size()];
+        int[] lengths = new int[entries.size()];
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            // 헤더 자리 - 인덱스 위치는 데이터를 다 쓴 뒤에 알 수 있으므로 마지막에 다시 씀
+            out.write(new byte[HEADER_SIZE]);
+
+            long position = HEADER_SIZE;
+            for (int i = 0; i < entries.size(); i++) {
+                String[] fields = entries.get(i);
+                byte[] data = Files.readAllBytes(thumbnailDir.resolve(fields[4]));
+                if (position + data.length > Integer.MAX_VALUE) {
+                    throw new IOException("아틀라스가 2GB를 넘습니다.");
+                }
+                keys.add(ThumbnailManifest.key(fields[3], Integer.parseInt(fields[0]), Integer.parseInt(fields[1]),
+                        ImageLoader.CropMode.valueOf(fields[2])).getBytes(StandardCharsets.UTF_8));
+                offsets[i] = (int) position;
+                lengths[i] = data.length;
+                out.write(data);
+                position += data.length;
+            }
+
+            for (int i = 0; i < keys.size(); i++) {
+                out.writeInt(keys.get(i).length);
+                out.write(keys.get(i));
+                out.writeInt(offsets[i]);
+                out.writeInt(lengths[i]);
+            }
+            out.flush();
+
+            // 헤더 기록
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).putInt(keys.size()).putInt(0).putLong(position).flip();
+                channel.write(header, 0);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return keys.size();
+    }
+
+    /**
+     * 아틀라스 파일을 만듭니다.
+     * 사용법:
+     *   ImageAtlasWriter [썸네일 디렉토리] [출력 파일]
+     *   (기본값: target/classes, images.atlas)
+     */
+    public static void main(String[] args) {
+        try {
+            Path thumbnailDir = Paths.get(args.length > 0 ? args[0] : "target/classes");
+            Path output = Paths.get(args.length > 1 ? args[1] : ImageAtlas.DEFAULT_PATH);
+            int count = write(thumbnailDir, output);
+            System.out.println("✅ 이미지 아틀라스 저장 완료: " + output + " (" + count + "개, " + Files.size(output) + " bytes)");
+        } catch (Exception e) {
+            System.err.println("❌ 이미지 아틀라스 생성 실패: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.whatsyourpick.util;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 패널들이 함께 쓰는 디코딩된 이미지 캐시
+ * (경로, 목표 크기, 크롭 방식)을 키로, 크롭/스케일링까지 끝난 이미지를 보관합니다.
+ * 전체 픽셀 바이트 수가 최대 크기를 넘으면 가장 오래 사용되지 않은 이미지부터 제거합니다.
+ * 같은 이미지를 여러 스레드가 동시에 요청하면 한 번만 읽고 나머지는 그 결과를 기다립니다.
+ */
+public class ImageCache {
+
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final ImageCache SHARED =
+            new ImageCache(Long.getLong("wyp.image.cacheBytes", 64L * 1024 * 1024));
+
+    private final long maxBytes;
+    private final Map<Key, CompletableFuture<BufferedImage>> cache;
+    private long currentBytes;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * @param maxBytes 캐시할 최대 픽셀 바이트 수
+     */
+    public ImageCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+        // 접근 순서 LinkedHashMap - 가장 오래 사용되지 않은 항목이 맨 앞
+        this.cache = new LinkedHashMap<>(64, 0.75f, true);
+    }
+
+    /**
+     * 앱 전체에서 공유하는 캐시를 반환합니다. (-Dwyp.image.cacheBytes로 크기 지정, 기본 64MB)
+     */
+    public static ImageCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * 목표 크기로 맞춘 이미지를 반환합니다. 캐시에 없으면 현재 스레드에서 읽어 캐시합니다.
+     * @param imagePath 이미지 경로
+     * @param targetWidth 목표 폭
+     * @param targetHeight 목표 높이
+     * @param cropMode 크롭 방식
+     * @return 목표 크기의 이미지
+     * @throws IOException 읽기 실패 시 (실패한 결과는 캐시하지 않음)
+     */
+    public BufferedImage get(String imagePath, int targetWidth, int targetHeight, ImageLoader.CropMode cropMode)
+            throws IOException {
+        Key key = new Key(imagePath, targetWidth, targetHeight, cropMode);
+        CompletableFuture<BufferedImage> future;
+        boolean owner = false;
+
+        synchronized (cache) {
+            future = cache.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                cache.put(key, future);
+                currentBytes += key.bytes();
+                evictOverflow(key);
+                owner = true;
+            }
+        }
+
+        if (!owner) {
+            hitCount.incrementAndGet();
+            return join(key, future);
+        }
+
+        missCount.incrementAndGet();
+        try {
+            BufferedImage image = ImageLoader.load(imagePath, targetWidth, targetHeight, cropMode);
+            future.complete(image);
+            return image;
+        } catch (IOException | RuntimeException e) {
+            remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 이미지가 캐시에 있거나 읽는 중인지 확인합니다. (히트/미스 통계와 LRU 순서에 영향 없음)
+     * @return 캐시에 있으면 true
+     */
+    public boolean contains(String imagePath, int targetWidth, int targetHeight, ImageLoader.CropMode cropMode) {
+        Key key = new Key(imagePath, targetWidth, targetHeight, cropMode);
+        synchronized (cache) {
+            return cache.containsKey(key);
+        }
+    }
+
+    private BufferedImage join(Key key, CompletableFuture<BufferedImage> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("이미지 로드 실패: " + key.path, e.getCause());
+        }
+    }
+
+    /**
+     * 최대 크기를 넘는 동안 가장 오래 사용되지 않은 항목을 제거합니다. (방금 넣은 항목은 제외)
+     */
+    private void evictOverflow(Key justAdded) {
+        Iterator<Map.Entry<Key, CompletableFuture<BufferedImage>>> it = cache.entrySet().iterator();
+        while (currentBytes > maxBytes && it.hasNext()) {
+            Key eldest = it.next().getKey();
+            if (eldest.equals(justAdded)) {
+                continue;
+            }
+            it.remove();
+            currentBytes -= eldest.bytes();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private void remove(Key key, CompletableFuture<BufferedImage> future) {
+        synchronized (cache) {
+            if (cache.remove(key, future)) {
+                currentBytes -= key.bytes();
+            }
+        }
+    }
+
+    /**
+     * 캐시를 모두 비웁니다.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            currentBytes = 0;
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getCurrentBytes() {
+        synchronized (cache) {
+            return currentBytes;
+        }
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * 캐시 통계 문자열을 반환합니다.
+     */
+    public String getStats() {
+        return "hit " + getHitCount() + ", miss " + getMissCount() + ", eviction " + getEvictionCount()
+                + ", " + (getCurrentBytes() / 1024) + "KB/" + (maxBytes / 1024) + "KB";
+    }
+
+    /**
+     * 캐시 키 (경로, 목표 크기, 크롭 방식)
+     */
+    private static final class Key {
+        private final String path;
+        private final int width;
+        private final int height;
+        private final ImageLoader.CropMode cropMode;
+
+        Key(String path, int width, int height, ImageLoader.CropMode cropMode) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+            this.cropMode = cropMode;
+        }
+
+        long bytes() {
+            return (long) width * height * BYTES_PER_PIXEL;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return width == other.width && height == other.height
+                    && cropMode == other.cropMode && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, width, height, cropMode);
+        }
+    }
+}
@@ -1,11 +1,86 @@
 package com.whatsyourpick.util;
 
+import com.whatsyourpick.database.ConnectionPool;
+import com.whatsyourpick.database.DatabaseConfig;
+
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 public class ImageExporter {
 
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    // 증분 동기화 출력 구조: manifest.tsv (이름 -> 객체) + objects/해시 앞 2자리/해시.확장자
+    public static final String SYNC_MANIFEST = "manifest.tsv";
+    public static final String SYNC_OBJECTS = "objects";
+
+    // 스트리밍 복사용 다이렉트 버퍼 (작업 스레드마다 하나를 재사용)
+    private static final ThreadLocal<ByteBuffer> COPY_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(COPY_BUFFER_SIZE));
+
+    /**
+     * 스트리밍 추출 진행 상황 (여러 작업 스레드가 함께 갱신)
+     */
+    public static class ExportProgress {
+        private final AtomicInteger categories = new AtomicInteger();
+        private final AtomicInteger files = new AtomicInteger();
+        private final AtomicLong bytes = new AtomicLong();
+        private final long startNanos = System.nanoTime();
+
+        public int getCategories() {
+            return categories.get();
+        }
+
+        public int getFiles() {
+            return files.get();
+        }
+
+        public long getBytes() {
+            return bytes.get();
+        }
+
+        /**
+         * 시작 이후 평균 처리량 (MB/s)
+         */
+        public double getMegabytesPerSecond() {
+            double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            return seconds <= 0 ? 0 : bytes.get() / (1024.0 * 1024.0) / seconds;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("카테고리 %d개, 이미지 %d개, %.1f MB (%.1f MB/s)",
+                    categories.get(), files.get(), bytes.get() / (1024.0 * 1024.0), getMegabytesPerSecond());
+        }
+    }
+
     /**
      * DB의 BLOB 이미지를 파일로 추출
      */
@@ -25,8 +100,11 @@ public class ImageExporter {
                     byte[] imageData = rs.getBytes("image_data");
 
                     // 파일 확장자 결정
-                    String extension = imageType.equals("image/jpeg") ? "jpg" :
-                                     imageType.equals("image/png") ? "png" : "jpg";
+                    String extension = ImageTypes.extensionOf(imageType);
+                    if (extension == null) {
+                        System.err.println("⚠️ 지원하지 않는 이미지 타입이라 건너뜀: " + name + " (" + imageType + ")");
+                        return;
+                    }
 
                     // 출력 경로 생성
                     Path outputDir = Paths.get(outputPath, category);
@@ -64,8 +142,11 @@ public class ImageExporter {
                     String imageType = rs.getString("image_type");
                     byte[] imageData = rs.getBytes("image_data");
 
-                    String extension = imageType.equals("image/jpeg") ? "jpg" :
-                                     imageType.equals("image/png") ? "png" : "jpg";
+                    String extension = ImageTypes.extensionOf(imageType);
+                    if (extension == null) {
+                        System.err.println("⚠️ 지원하지 않는 이미지 타입이라 건너뜀: " + name + " (" + imageType + ")");
+                        continue;
+                    }
 
                     Path outputFile = outputDir.resolve(name + "." + extension);
                     Files.write(outputFile, imageData);
@@ -93,17 +174,372 @@ public class ImageExporter {
         }
     }
 
+    /**
+     * 특정 카테고리의 모든 이미지를 스트리밍으로 추출
+     * BLOB을 힙에 통째로 올리지 않고 getBinaryStream으로 읽어 다이렉트 버퍼를 거쳐 파일 채널에 씁니다.
+     * 결과도 한 행씩 스트리밍하므로 카테고리 크기와 관계없이 메모리 사용량이 일정합니다.
+     */
+    public static int exportCategoryImagesStreaming(Connection conn, String category, String outputPath,
+                                                    ExportProgress progress) throws SQLException, IOException {
+
+        String sql = "SELECT id, name, image_type, image_data FROM contestant_blob WHERE category = ?";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            // MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍
+            pstmt.setFetchSize(Integer.MIN_VALUE);
+            pstmt.setString(1, category);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                Path outputDir = Paths.get(outputPath, category);
+                Files.createDirectories(outputDir);
+
+                int count = 0;
+                while (rs.next()) {
+                    String name = rs.getString("name");
+                    String imageType = rs.getString("image_type");
+                    String extension = ImageTypes.extensionOf(imageType);
+                    if (extension == null) {
+                        System.err.println("⚠️ 지원하지 않는 이미지 타입이라 건너뜀: " + name + " (" + imageType + ")");
+                        continue;
+                    }
+                    Path outputFile = outputDir.resolve(name + "." + extension);
+
+                    try (InputStream in = rs.getBinaryStream("image_data")) {
+                        long written = in == null ? 0 : copy(in, outputFile);
+                        progress.bytes.addAndGet(written);
+                    }
+                    progress.files.incrementAndGet();
+                    count++;
+                }
+
+                progress.categories.incrementAndGet();
+                System.out.println(category + " 카테고리 " + count + "개 이미지 저장 완료");
+                return count;
+            }
+        }
+    }
+
+    /**
+     * 모든 이미지를 카테고리별로 병렬 추출
+     * 카테고리마다 풀에서 커넥션을 하나씩 빌려 최대 parallelism개를 동시에 스트리밍 추출하고,
+     * 1초마다 진행 상황과 처리량을 출력합니다.
+     * @param pool 커넥션 풀 (최대 크기가 parallelism 이상이어야 대기 없이 실행됨)
+     * @param outputPath 출력 디렉토리
+     * @param parallelism 동시에 추출할 카테고리 수
+     * @return 진행 상황 (최종 결과)
+     */
+    public static ExportProgress exportAllImagesParallel(ConnectionPool pool, String outputPath, int parallelism)
+            throws SQLException, IOException {
+
+        List<String> categories = new ArrayList<>();
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT DISTINCT category FROM contestant_blob")) {
+            while (rs.next()) {
+                categories.add(rs.getString("category"));
+            }
+        }
+
+        ExportProgress progress = new ExportProgress();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+            Thread t = new Thread(r, "image-export-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "image-export-progress");
+            t.setDaemon(true);
+            return t;
+        });
+        reporter.scheduleAtFixedRate(() -> System.out.println("📦 진행: " + progress + " / 전체 카테고리 "
+                + categories.size() + "개"), 1, 1, TimeUnit.SECONDS);
+
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (String category : categories) {
+                results.add(workers.submit(() -> {
+                    try (Connection conn = pool.getConnection()) {
+                        return exportCategoryImagesStreaming(conn, category, outputPath, progress);
+                    }
+                }));
+            }
+            for (Future<Integer> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 추출이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("이미지 추출 실패: " + cause.getMessage(), cause);
+        } finally {
+            reporter.shutdownNow();
+            workers.shutdownNow();
+        }
+
+        System.out.println("✅ 이미지 추출 완료: " + progress);
+        return progress;
+    }
+
+    /**
+     * 증분 동기화 결과
+     */
+    public static class SyncResult {
+        private int total;         // 매니페스트의 이미지 수
+        private int unchanged;     // 이전 동기화와 해시가 같은 이미지 수
+        private int downloaded;    // 새로 내려받은 객체 수
+        private int deduplicated;  // 다른 이미지와 내용이 같아 객체를 공유하는 이미지 수
+        private int removed;       // 더 이상 참조되지 않아 지운 객체 수
+        private long bytes;        // 내려받은 바이트 수
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getUnchanged() {
+            return unchanged;
+        }
+
+        public int getDownloaded() {
+            return downloaded;
+        }
+
+        public int getDeduplicated() {
+            return deduplicated;
+        }
+
+        public int getRemoved() {
+            return removed;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("이미지 %d개 (변경 없음 %d, 새 객체 %d개 %.1f MB, 중복 공유 %d, 정리 %d)",
+                    total, unchanged, downloaded, bytes / (1024.0 * 1024.0), deduplicated, removed);
+        }
+    }
+
+    /**
+     * 모든 이미지를 내용 해시 기준으로 증분 동기화
+     * 해시(SHA-256)는 image_data가 바뀔 때 서버가 계산해 두는 sha256 생성 컬럼을 읽으므로,
+     * BLOB을 전송하거나 다시 해시하지 않고도 변경 여부를 알 수 있고 로컬에 없는 객체만 내려받습니다.
+     * 내용이 같은 이미지는 카테고리가 달라도 객체 하나를 공유합니다.
+     * 출력 디렉토리에는 이름(카테고리/이름.확장자) -> 객체 매니페스트와 objects/ 아래 객체 파일이 만들어지며,
+     * 매니페스트를 바꾼 뒤 더 이상 참조되지 않는 객체는 지웁니다.
+     * @param conn DB 커넥션
+     * @param outputPath 출력 디렉토리
+     * @return 동기화 결과
+     */
+    public static SyncResult syncImages(Connection conn, String outputPath) throws SQLException, IOException {
+        Path root = Paths.get(outputPath);
+        Path objectsDir = root.resolve(SYNC_OBJECTS);
+        Path manifestFile = root.resolve(SYNC_MANIFEST);
+        Files.createDirectories(objectsDir);
+
+        Map<String, String> previous = readSyncManifest(manifestFile);
+        Map<String, String> manifest = new TreeMap<>();     // 이름 -> 객체 (해시.확장자)
+        Map<String, Long> missing = new LinkedHashMap<>();  // 내려받을 객체 -> 행 id
+        SyncResult result = new SyncResult();
+
+        // 1. 저장된 해시만 조회 (행 단위 스트리밍 - 조회 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 목록만 모음)
+        String sql = "SELECT id, category, name, image_type, sha256 FROM contestant_blob";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            pstmt.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    String sha256 = rs.getString("sha256");
+                    if (sha256 == null) {
+                        continue; // 이미지 데이터 없음
+                    }
+                    String extension = ImageTypes.extensionOf(rs.getString("image_type"));
+                    if (extension == null) {
+                        System.err.println("⚠️ 지원하지 않는 이미지 타입이라 건너뜀: "
+                                + rs.getString("category") + "/" + rs.getString("name")
+                                + " (" + rs.getString("image_type") + ")");
+                        continue;
+                    }
+                    String name = rs.getString("category") + "/" + rs.getString("name") + "." + extension;
+                    String object = sha256 + "." + extension;
+                    manifest.put(name, object);
+
+                    if (object.equals(previous.get(name))) {
+                        result.unchanged++;
+                    }
+                    if (!missing.containsKey(object) && !Files.exists(objectPath(objectsDir, object))) {
+                        missing.put(object, rs.getLong("id"));
+                    }
+                }
+            }
+        }
+
+        // 2. 없는 객체만 내려받음
+        for (Map.Entry<String, Long> entry : missing.entrySet()) {
+            result.bytes += downloadObject(conn, entry.getValue(), objectsDir, entry.getKey());
+            result.downloaded++;
+        }
+
+        // 3. 매니페스트 교체
+        writeSyncManifest(manifestFile, manifest);
+
+        // 4. 참조되지 않는 객체 정리
+        Set<String> referenced = new HashSet<>(manifest.values());
+        try (Stream<Path> files = Files.walk(objectsDir)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                if (!referenced.contains(file.getFileName().toString())) {
+                    Files.delete(file);
+                    result.removed++;
+                }
+            }
+        }
+
+        result.total = manifest.size();
+        result.deduplicated = manifest.size() - referenced.size();
+        System.out.println("✅ 이미지 동기화 완료: " + result);
+        return result;
+    }
+
+    /**
+     * 한 행의 이미지를 객체 파일로 내려받습니다. 받는 동안 해시를 다시 계산해 확인합니다.
+     * @return 내려받은 바이트 수
+     */
+    private static long downloadObject(Connection conn, long id, Path objectsDir, String object)
+            throws SQLException, IOException {
+        Path target = objectPath(objectsDir, object);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), object, ".tmp");
+
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT image_data FROM contestant_blob WHERE id = ?")) {
+            pstmt.setLong(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IOException("이미지가 동기화 중에 삭제되었습니다: id=" + id);
+                }
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                long written;
+                try (InputStream in = new DigestInputStream(rs.getBinaryStream("image_data"), digest)) {
+                    written = copy(in, temp);
+                }
+                String actual = HexFormat.of().formatHex(digest.digest());
+                if (!object.startsWith(actual + ".")) {
+                    throw new IOException("이미지가 동기화 중에 변경되었습니다: id=" + id);
+                }
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return written;
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static Path objectPath(Path objectsDir, String object) {
+        return objectsDir.resolve(object.substring(0, 2)).resolve(object);
+    }
+
+    private static Map<String, String> readSyncManifest(Path manifestFile) throws IOException {
+        Map<String, String> manifest = new HashMap<>();
+        if (!Files.exists(manifestFile)) {
+            return manifest;
+        }
+        for (String line : Files.readAllLines(manifestFile, StandardCharsets.UTF_8)) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t");
+            if (fields.length == 2) {
+                manifest.put(fields[0], fields[1]);
+            }
+        }
+        return manifest;
+    }
+
+    private static void writeSyncManifest(Path manifestFile, Map<String, String> manifest) throws IOException {
+        Path temp = Files.createTempFile(manifestFile.getParent(), SYNC_MANIFEST, ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write("# 이름\t객체");
+                writer.newLine();
+                for (Map.Entry<String, String> entry : manifest.entrySet()) {
+                    writer.write(entry.getKey() + "\t" + entry.getValue());
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 스트림을 파일로 복사합니다. (작업 스레드의 다이렉트 버퍼 재사용)
+     * @return 복사한 바이트 수
+     */
+    private static long copy(InputStream in, Path outputFile) throws IOException {
+        ByteBuffer buffer = COPY_BUFFER.get();
+        long total = 0;
+        ReadableByteChannel source = Channels.newChannel(in);
+        try (FileChannel target = FileChannel.open(outputFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.clear();
+            while (source.read(buffer) >= 0 || buffer.position() > 0) {
+                buffer.flip();
+                total += target.write(buffer);
+                buffer.compact();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 사용법:
+     *   ImageExporter [출력 디렉토리] [동시 추출 수]
+     *   (기본값: src/main/resources/images, 4 / 접속 정보는 -Dwyp.db.* 프로퍼티)
+     *   -Dwyp.export.mode 로 방식을 고릅니다.
+     *     stream (기본) - 카테고리별 병렬 스트리밍 추출
+     *     incremental  - 내용 해시 기준 증분 동기화 (바뀐 이미지만 내려받음)
+     *     legacy       - 기존 방식 (단일 커넥션, 순차 추출)
+     */
     public static void main(String[] args) {
-        String url = "jdbc:mysql://localhost:3306/idealcup";
-        String user = "root";
-        String password = "your_password";
+        // 모든 이미지를 src/main/resources/images 폴더로 추출
+        String outputPath = args.length > 0 ? args[0] : "src/main/resources/images";
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        DatabaseConfig config = DatabaseConfig.fromSystemProperties();
 
-        try (Connection conn = DriverManager.getConnection(url, user, password)) {
-            // 모든 이미지를 src/main/resources/images 폴더로 추출
-            String outputPath = "src/main/resources/images";
-            exportAllImages(conn, outputPath);
+        String mode = System.getProperty("wyp.export.mode", "stream");
+
+        if ("legacy".equalsIgnoreCase(mode) || "incremental".equalsIgnoreCase(mode)) {
+            try (Connection conn = DriverManager.getConnection(config.getUrl(), config.getUser(), config.getPassword())) {
+                if ("legacy".equalsIgnoreCase(mode)) {
+                    exportAllImages(conn, outputPath);
+                } else {
+                    syncImages(conn, outputPath);
+                }
+            } catch (Exception e) {
+                System.err.println("❌ 이미지 추출 실패: " + e.getMessage());
+                e.printStackTrace();
+            }
+            return;
+        }
 
+        try (ConnectionPool pool = new ConnectionPool(config)) {
+            pool.start();
+            exportAllImagesParallel(pool, outputPath, Math.min(parallelism, config.getPoolMaxSize()));
         } catch (Exception e) {
+            System.err.println("❌ 이미지 추출 실패: " + e.getMessage());
             e.printStackTrace();
         }
     }
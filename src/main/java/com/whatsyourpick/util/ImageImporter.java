@@ -0,0 +1,258 @@
+package com.whatsyourpick.util;
+
+import com.whatsyourpick.database.ConnectionPool;
+import com.whatsyourpick.database.DatabaseConfig;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 디렉토리(카테고리/이름.확장자)를 contestant_blob 테이블로 적재하는 도구 (ImageExporter의 반대 방향)
+ * 파일은 setBinaryStream으로 넘겨 힙에 복사하지 않고, 작업 스레드마다 커넥션 하나와 PreparedStatement 배치를 사용합니다.
+ * 배치는 행 수 또는 바이트 수가 한도에 닿으면 실행하고 커밋합니다.
+ */
+public class ImageImporter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO contestant_blob (name, category, image_type, image_data) VALUES (?, ?, ?, ?)";
+    private static final String UPSERT_SQL = INSERT_SQL
+            + " ON DUPLICATE KEY UPDATE image_type = VALUES(image_type), image_data = VALUES(image_data)";
+
+    private ImageImporter() {
+    }
+
+    /**
+     * 적재 진행 상황 (여러 작업 스레드가 함께 갱신)
+     */
+    public static class ImportProgress {
+        private final AtomicInteger rows = new AtomicInteger();
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicLong bytes = new AtomicLong();
+        private final long startNanos = System.nanoTime();
+
+        public int getRows() {
+            return rows.get();
+        }
+
+        public int getBatches() {
+            return batches.get();
+        }
+
+        public long getBytes() {
+            return bytes.get();
+        }
+
+        public double getRowsPerSecond() {
+            double seconds = elapsedSeconds();
+            return seconds <= 0 ? 0 : rows.get() / seconds;
+        }
+
+        public double getMegabytesPerSecond() {
+            double seconds = elapsedSeconds();
+            return seconds <= 0 ? 0 : bytes.get() / (1024.0 * 1024.0) / seconds;
+        }
+
+        private double elapsedSeconds() {
+            return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d행 (%d배치), %.1f MB - %.0f rows/s, %.1f MB/s",
+                    rows.get(), batches.get(), bytes.get() / (1024.0 * 1024.0),
+                    getRowsPerSecond(), getMegabytesPerSecond());
+        }
+    }
+
+    /**
+     * 디렉토리의 이미지를 모두 적재합니다.
+     * @param pool 커넥션 풀 (최대 크기가 threads 이상이어야 대기 없이 실행됨)
+     * @param imageDir 이미지 루트 디렉토리 (바로 아래 디렉토리 이름이 카테고리)
+     * @param threads 동시에 적재할 작업 스레드 수
+     * @param batchSize 배치당 최대 행 수
+     * @param batchBytes 배치당 최대 바이트 수 (max_allowed_packet보다 작게)
+     * @param upsert true면 같은 (이름, 카테고리)가 있을 때 이미지를 교체, false면 중복 시 실패
+     * @return 진행 상황 (최종 결과)
+     */
+    public static ImportProgress importImages(ConnectionPool pool, Path imageDir, int threads,
+                                              int batchSize, long batchBytes, boolean upsert)
+            throws SQLException, IOException {
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(imageDir, 2)) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(file -> ImageTypes.mimeTypeOf(file) != null)
+                    .filter(file -> imageDir.relativize(file).getNameCount() == 2)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        System.out.println("📥 이미지 " + files.size() + "개 적재 시작 (스레드 " + threads + ", 배치 " + batchSize
+                + "행/" + (batchBytes / (1024 * 1024)) + "MB, " + (upsert ? "upsert" : "insert") + ")");
+
+        ImportProgress progress = new ImportProgress();
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "image-import-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "image-import-progress");
+            t.setDaemon(true);
+            return t;
+        });
+        reporter.scheduleAtFixedRate(() -> System.out.println("📦 진행: " + progress + " / 전체 " + files.size() + "개"),
+                1, 1, TimeUnit.SECONDS);
+
+        try {
+            // 작업 스레드들이 공유 인덱스로 파일을 하나씩 가져감 (큰 파일이 한 스레드에 몰리지 않음)
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 0; i < Math.max(1, threads); i++) {
+                results.add(workers.submit(() -> {
+                    importWorker(pool, imageDir, files, next, batchSize, batchBytes, upsert, progress);
+                    return null;
+                }));
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("이미지 적재가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("이미지 적재 실패: " + cause.getMessage(), cause);
+        } finally {
+            reporter.shutdownNow();
+            workers.shutdownNow();
+        }
+
+        System.out.println("✅ 이미지 적재 완료: " + progress);
+        return progress;
+    }
+
+    private static void importWorker(ConnectionPool pool, Path imageDir, List<Path> files, AtomicInteger next,
+                                     int batchSize, long batchBytes, boolean upsert, ImportProgress progress)
+            throws SQLException, IOException {
+        try (Connection conn = pool.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(upsert ? UPSERT_SQL : INSERT_SQL)) {
+                // 드라이버는 배치를 실행할 때 스트림을 읽으므로 그때까지 열어 둠
+                List<InputStream> pending = new ArrayList<>();
+                long pendingBytes = 0;
+
+                try {
+                    int index;
+                    while ((index = next.getAndIncrement()) < files.size()) {
+                        Path file = files.get(index);
+                        long size = Files.size(file);
+                        InputStream in = new BufferedInputStream(Files.newInputStream(file));
+                        pending.add(in);
+
+                        pstmt.setString(1, baseName(file));
+                        pstmt.setString(2, imageDir.relativize(file).getName(0).toString());
+                        pstmt.setString(3, ImageTypes.mimeTypeOf(file));
+                        pstmt.setBinaryStream(4, in, size);
+                        pstmt.addBatch();
+                        pendingBytes += size;
+
+                        if (pending.size() >= batchSize || pendingBytes >= batchBytes) {
+                            flush(conn, pstmt, pending, pendingBytes, progress);
+                            pendingBytes = 0;
+                        }
+                    }
+                    if (!pending.isEmpty()) {
+                        flush(conn, pstmt, pending, pendingBytes, progress);
+                    }
+                } catch (SQLException | IOException | RuntimeException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    closeAll(pending);
+                    conn.setAutoCommit(true);
+                }
+            }
+        }
+    }
+
+    private static void flush(Connection conn, PreparedStatement pstmt, List<InputStream> pending, long pendingBytes,
+                              ImportProgress progress) throws SQLException {
+        int rows = pending.size();
+        try {
+            pstmt.executeBatch();
+            conn.commit();
+        } finally {
+            closeAll(pending);
+        }
+        progress.rows.addAndGet(rows);
+        progress.bytes.addAndGet(pendingBytes);
+        progress.batches.incrementAndGet();
+    }
+
+    private static void closeAll(List<InputStream> streams) {
+        for (InputStream in : streams) {
+            try {
+                in.close();
+            } catch (IOException e) {
+                System.err.println("⚠️  파일 스트림 닫기 실패: " + e.getMessage());
+            }
+        }
+        streams.clear();
+    }
+
+    private static String baseName(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    /**
+     * 사용법:
+     *   ImageImporter [이미지 디렉토리] [스레드 수] [배치 크기]
+     *   (기본값: src/main/resources/images/contestants, 4, 50 / 접속 정보는 -Dwyp.db.* 프로퍼티)
+     *   -Dwyp.import.batchBytes 배치당 최대 바이트 수 (기본 16MB)
+     *   -Dwyp.import.upsert=false 이면 같은 이름이 있을 때 교체하지 않고 실패합니다.
+     */
+    public static void main(String[] args) {
+        Path imageDir = Paths.get(args.length > 0 ? args[0] : "src/main/resources/images/contestants");
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int batchSize = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        long batchBytes = Long.getLong("wyp.import.batchBytes", 16L * 1024 * 1024);
+        boolean upsert = Boolean.parseBoolean(System.getProperty("wyp.import.upsert", "true"));
+        DatabaseConfig config = DatabaseConfig.fromSystemProperties();
+
+        try (ConnectionPool pool = new ConnectionPool(config)) {
+            pool.start();
+            importImages(pool, imageDir, Math.min(threads, config.getPoolMaxSize()), batchSize, batchBytes, upsert);
+        } catch (Exception e) {
+            System.err.println("❌ 이미지 적재 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
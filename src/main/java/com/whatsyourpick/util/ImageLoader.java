@@ -0,0 +1,167 @@
+package com.whatsyourpick.util;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Iterator;
+
+/**
+ * 클래스패스 이미지를 읽어 목표 크기로 맞추는 유틸리티
+ * 결과는 바로 그릴 수 있는 BufferedImage이므로 작업 스레드에서 미리 만들어 둘 수 있습니다.
+ */
+public class ImageLoader {
+
+    /**
+     * 목표 크기에 맞추는 방식
+     */
+    public enum CropMode {
+        CENTER,   // 목표 비율로 중앙을 잘라낸 뒤 스케일링 (대결/결과 화면)
+        STRETCH   // 자르지 않고 목표 크기로 늘리거나 줄임 (카테고리 카드)
+    }
+
+    private ImageLoader() {
+    }
+
+    /**
+     * 이미지를 읽어 크롭 방식에 따라 목표 크기로 맞춥니다.
+     * @param imagePath 이미지 경로 (맨 앞의 /는 무시)
+     * @param targetWidth 목표 폭
+     * @param targetHeight 목표 높이
+     * @param cropMode 크롭 방식
+     * @return 목표 크기의 이미지
+     * @throws IOException 리소스가 없거나 읽을 수 없는 경우
+     */
+    public static BufferedImage load(String imagePath, int targetWidth, int targetHeight, CropMode cropMode)
+            throws IOException {
+        // 경로 정리 (맨 앞의 / 제거)
+        String cleanPath = imagePath.startsWith("/") ? imagePath.substring(1) : imagePath;
+
+        // 아틀라스에 같은 크기의 썸네일이 있으면 매핑된 파일에서 바로 읽음 (ImageAtlasWriter)
+        InputStream packed = ImageAtlas.shared().open(cleanPath, targetWidth, targetHeight, cropMode);
+        if (packed != null) {
+            try (InputStream in = packed) {
+                BufferedImage decoded = decode(in, targetWidth, targetHeight, CropMode.STRETCH);
+                return ImageScaler.scale(decoded, targetWidth, targetHeight);
+            }
+        }
+
+        // 빌드 시 미리 렌더링된 같은 크기의 썸네일이 있으면 원본 대신 사용 (ThumbnailRenderer)
+        String thumbnail = ThumbnailManifest.fromClasspath().find(cleanPath, targetWidth, targetHeight, cropMode);
+        if (thumbnail != null) {
+            URL thumbnailUrl = ImageLoader.class.getClassLoader().getResource(thumbnail);
+            if (thumbnailUrl != null) {
+                return read(thumbnailUrl, targetWidth, targetHeight, CropMode.STRETCH);
+            }
+        }
+
+        URL imageUrl = ImageLoader.class.getClassLoader().getResource(cleanPath);
+        if (imageUrl == null) {
+            throw new IOException("리소스를 찾을 수 없음: " + cleanPath);
+        }
+        return read(imageUrl, targetWidth, targetHeight, cropMode);
+    }
+
+    private static BufferedImage read(URL imageUrl, int targetWidth, int targetHeight, CropMode cropMode)
+            throws IOException {
+        try (InputStream in = new BufferedInputStream(imageUrl.openStream())) {
+            BufferedImage decoded = decode(in, targetWidth, targetHeight, cropMode);
+            return ImageScaler.scale(decoded, targetWidth, targetHeight);
+        }
+    }
+
+    /**
+     * 필요한 픽셀만 디코딩합니다.
+     * 헤더에서 원본 크기를 먼저 읽고, 중앙 크롭 영역만(CENTER) 목표 크기의 2배 이상이 남는 범위에서
+     * 행/열을 건너뛰며(subsampling) 디코딩합니다. 큰 원본을 전부 디코딩한 뒤 줄이는 것보다 CPU와 힙을 덜 씁니다.
+     * @param in 이미지 스트림
+     * @param targetWidth 목표 폭
+     * @param targetHeight 목표 높이
+     * @param cropMode 크롭 방식
+     * @return 크롭이 적용되고 목표 크기 이상으로 줄어든 이미지
+     * @throws IOException 지원하지 않는 형식이거나 읽을 수 없는 경우
+     */
+    static BufferedImage decode(InputStream in, int targetWidth, int targetHeight, CropMode cropMode)
+            throws IOException {
+        // 파일 캐시 없이 메모리에서만 읽음
+        try (ImageInputStream input = new MemoryCacheImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= 0 || height <= 0) {
+                    throw new IOException("이미지 크기 0");
+                }
+
+                Rectangle region = cropMode == CropMode.CENTER
+                        ? centerCrop(width, height, targetWidth, targetHeight)
+                        : new Rectangle(0, 0, width, height);
+
+                // 마지막 스케일링 품질을 위해 목표 크기의 2배 이상은 남김
+                int factor = Math.max(1, Math.min(region.width / targetWidth, region.height / targetHeight) / 2);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceRegion(region);
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 이미지를 목표 비율로 중앙 크롭한 뒤 목표 크기로 스케일링합니다.
+     * 크롭과 스케일링은 ImageScaler에서 한 번에 처리됩니다.
+     * @param originalImg 원본 이미지
+     * @param targetWidth 목표 폭
+     * @param targetHeight 목표 높이
+     * @return 목표 크기의 이미지
+     */
+    public static BufferedImage cropAndScale(BufferedImage originalImg, int targetWidth, int targetHeight) {
+        Rectangle crop = centerCrop(originalImg.getWidth(), originalImg.getHeight(), targetWidth, targetHeight);
+        return ImageScaler.scale(originalImg, crop.x, crop.y, crop.width, crop.height, targetWidth, targetHeight);
+    }
+
+    /**
+     * 원본에서 목표 비율로 잘라낼 중앙 영역을 계산합니다.
+     * @param width 원본 폭
+     * @param height 원본 높이
+     * @param targetWidth 목표 폭
+     * @param targetHeight 목표 높이
+     * @return 잘라낼 영역
+     */
+    public static Rectangle centerCrop(int width, int height, int targetWidth, int targetHeight) {
+        // 원본 이미지의 비율 계산
+        double imgRatio = (double) width / height;
+        double targetRatio = (double) targetWidth / targetHeight;
+
+        int cropWidth, cropHeight;
+
+        // 이미지를 크롭할 크기 결정 (중앙에서 잘라내기)
+        if (imgRatio > targetRatio) {
+            // 이미지가 더 넓음 - 높이를 기준으로 폭을 자름
+            cropHeight = height;
+            cropWidth = (int) (cropHeight * targetRatio);
+        } else {
+            // 이미지가 더 높음 - 폭을 기준으로 높이를 자름
+            cropWidth = width;
+            cropHeight = (int) (cropWidth / targetRatio);
+        }
+
+        // 중앙에서 크롭
+        return new Rectangle((width - cropWidth) / 2, (height - cropHeight) / 2, cropWidth, cropHeight);
+    }
+}
@@ -0,0 +1,105 @@
+package com.whatsyourpick.util;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다음에 보여줄 이미지를 작업 스레드에서 미리 읽고 스케일링해 두는 프리페처
+ * 화면 전환 시 EDT에서 디코딩/스케일링하지 않도록, 곧 나올 매치의 이미지를 공유 이미지 캐시에 미리 채웁니다.
+ * 메모리는 캐시 크기로 제한되며, 아직 읽는 중인 이미지를 요청하면 캐시가 그 결과를 기다립니다.
+ * 가장 최근 prefetch() 요청만 유지합니다. 새 요청이 오면 이전 요청 중 아직 시작하지 않은 작업은 취소하고,
+ * 이미 캐시에 있는 이미지는 작업을 만들지 않습니다. (캐시 히트 통계가 부풀지 않음)
+ */
+public class ImagePrefetcher {
+
+    private final ImageCache cache;
+    private final int targetWidth;
+    private final int targetHeight;
+    private final ExecutorService executor;
+    private final AtomicLong generation = new AtomicLong();
+    private final List<Future<?>> pending = new ArrayList<>();
+
+    /**
+     * @param cache 이미지를 채울 캐시
+     * @param targetWidth 목표 폭
+     * @param targetHeight 목표 높이
+     * @param threads 작업 스레드 수
+     */
+    public ImagePrefetcher(ImageCache cache, int targetWidth, int targetHeight, int threads) {
+        this.cache = cache;
+        this.targetWidth = targetWidth;
+        this.targetHeight = targetHeight;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "image-prefetch-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(Thread.NORM_PRIORITY - 1);
+            return t;
+        });
+    }
+
+    /**
+     * 이미지들을 등장 순서대로 미리 준비합니다.
+     * @param imagePaths 곧 표시할 이미지 경로
+     */
+    public void prefetch(Collection<String> imagePaths) {
+        Set<String> paths = new LinkedHashSet<>(imagePaths);
+        long current = generation.incrementAndGet();
+        synchronized (pending) {
+            // 지난 요청 중 아직 시작하지 않은 작업은 취소 (실행 중인 작업은 끝까지 읽어 캐시에 남김)
+            for (Future<?> future : pending) {
+                future.cancel(false);
+            }
+            pending.clear();
+
+            for (String path : paths) {
+                if (isCached(path)) {
+                    continue;
+                }
+                pending.add(executor.submit(() -> {
+                    // 대기 중에 새 요청이 왔거나 다른 곳에서 이미 읽었으면 건너뜀
+                    if (generation.get() != current || isCached(path)) {
+                        return;
+                    }
+                    try {
+                        cache.get(path, targetWidth, targetHeight, ImageLoader.CropMode.CENTER);
+                    } catch (IOException e) {
+                        System.err.println("⚠️  이미지 미리 읽기 실패: " + path + " - " + e.getMessage());
+                    }
+                }));
+            }
+        }
+    }
+
+    private boolean isCached(String path) {
+        return cache.contains(path, targetWidth, targetHeight, ImageLoader.CropMode.CENTER);
+    }
+
+    /**
+     * 이미지를 반환합니다.
+     * 준비된 이미지는 바로 반환하고, 준비 중이면 끝날 때까지 기다리며, 요청된 적이 없으면 현재 스레드에서 읽습니다.
+     * @param imagePath 이미지 경로
+     * @return 목표 크기의 이미지
+     * @throws IOException 읽기 실패 시
+     */
+    public BufferedImage get(String imagePath) throws IOException {
+        return cache.get(imagePath, targetWidth, targetHeight, ImageLoader.CropMode.CENTER);
+    }
+
+    /**
+     * 작업 스레드를 종료합니다.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
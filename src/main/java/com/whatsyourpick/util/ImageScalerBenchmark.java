@@ -0,0 +1,101 @@
+package com.whatsyourpick.util;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기존 getScaledInstance(SCALE_SMOOTH) 방식과 ImageScaler의 크롭+스케일링 속도를 비교하는 도구
+ * 이미 디코딩된 원본으로 측정하므로 디코딩 시간은 포함되지 않습니다.
+ *
+ * 사용법:
+ *   ImageScalerBenchmark [이미지 디렉토리] [반복 횟수]
+ *   (기본값: src/main/resources/images/contestants/남자배우, 20회)
+ */
+public class ImageScalerBenchmark {
+
+    private static final int TARGET_WIDTH = 500;
+    private static final int TARGET_HEIGHT = 480;
+    private static final int WARMUP_ROUNDS = 3;
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "src/main/resources/images/contestants/남자배우");
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        List<BufferedImage> sources = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.{jpg,jpeg,png}")) {
+            for (Path path : stream) {
+                BufferedImage image = ImageIO.read(path.toFile());
+                if (image != null) {
+                    sources.add(image);
+                }
+            }
+        }
+        if (sources.isEmpty()) {
+            System.err.println("❌ 이미지가 없습니다: " + dir);
+            return;
+        }
+        System.out.println("📏 원본 " + sources.size() + "장, 목표 " + TARGET_WIDTH + "x" + TARGET_HEIGHT
+                + ", " + rounds + "회 반복");
+
+        // JIT 워밍업
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runLegacy(sources);
+            runScaler(sources);
+        }
+
+        long legacyNanos = 0;
+        long scalerNanos = 0;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            runLegacy(sources);
+            legacyNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            runScaler(sources);
+            scalerNanos += System.nanoTime() - start;
+        }
+
+        double images = (double) rounds * sources.size();
+        double legacyMs = legacyNanos / 1_000_000.0 / images;
+        double scalerMs = scalerNanos / 1_000_000.0 / images;
+        System.out.printf("getScaledInstance(SCALE_SMOOTH): %.2f ms/장%n", legacyMs);
+        System.out.printf("ImageScaler (progressive bilinear): %.2f ms/장%n", scalerMs);
+        System.out.printf("속도 향상: %.1fx%n", legacyMs / scalerMs);
+    }
+
+    private static void runLegacy(List<BufferedImage> sources) {
+        for (BufferedImage source : sources) {
+            legacyCropAndScale(source);
+        }
+    }
+
+    private static void runScaler(List<BufferedImage> sources) {
+        for (BufferedImage source : sources) {
+            ImageLoader.cropAndScale(source, TARGET_WIDTH, TARGET_HEIGHT);
+        }
+    }
+
+    /**
+     * 기존 패널 코드와 같은 방식 (getSubimage + getScaledInstance, 그릴 수 있도록 BufferedImage로 변환)
+     */
+    private static BufferedImage legacyCropAndScale(BufferedImage source) {
+        Rectangle crop = ImageLoader.centerCrop(source.getWidth(), source.getHeight(), TARGET_WIDTH, TARGET_HEIGHT);
+        BufferedImage cropped = source.getSubimage(crop.x, crop.y, crop.width, crop.height);
+        Image scaled = cropped.getScaledInstance(TARGET_WIDTH, TARGET_HEIGHT, Image.SCALE_SMOOTH);
+        BufferedImage result = new BufferedImage(TARGET_WIDTH, TARGET_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = result.createGraphics();
+        g2.drawImage(scaled, 0, 0, null);
+        g2.dispose();
+        return result;
+    }
+}
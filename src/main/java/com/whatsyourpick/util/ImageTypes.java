@@ -0,0 +1,57 @@
+package com.whatsyourpick.util;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * 이미지 MIME 타입과 파일 확장자 사이의 대응표 (ImageImporter와 ImageExporter가 함께 사용)
+ * 적재할 때 붙인 타입을 추출할 때 같은 확장자로 되돌려야 하므로 한 곳에서만 정의합니다.
+ */
+final class ImageTypes {
+
+    private static final String[][] TYPES = {
+            {"image/jpeg", "jpg", "jpeg"},
+            {"image/png", "png"},
+            {"image/webp", "webp"},
+            {"image/gif", "gif"},
+    };
+
+    private ImageTypes() {
+    }
+
+    /**
+     * 파일 확장자로 MIME 타입을 정합니다.
+     * @param file 이미지 파일
+     * @return MIME 타입 (지원하지 않는 확장자면 null)
+     */
+    static String mimeTypeOf(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        int dot = name.lastIndexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        String extension = name.substring(dot + 1);
+        for (String[] type : TYPES) {
+            for (int i = 1; i < type.length; i++) {
+                if (type[i].equals(extension)) {
+                    return type[0];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * MIME 타입의 대표 확장자를 반환합니다.
+     * @param mimeType MIME 타입
+     * @return 확장자 (점 제외, 지원하지 않는 타입이면 null - 잘못된 확장자로 저장하지 않도록 호출 측에서 건너뜀)
+     */
+    static String extensionOf(String mimeType) {
+        for (String[] type : TYPES) {
+            if (type[0].equalsIgnoreCase(mimeType)) {
+                return type[1];
+            }
+        }
+        return null;
+    }
+}
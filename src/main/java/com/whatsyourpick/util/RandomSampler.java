@@ -0,0 +1,108 @@
+package com.whatsyourpick.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 무작위 표본 추출 유틸리티
+ * 전체를 섞지 않고 필요한 개수만큼만 뽑아, 비용이 표본 크기에 비례하도록 합니다.
+ */
+public class RandomSampler {
+
+    private RandomSampler() {
+    }
+
+    /**
+     * 리스트에서 중복 없이 count개를 무작위로 뽑습니다. (Floyd 알고리즘, O(count))
+     * 결과의 순서도 무작위입니다.
+     * @param source 원본 리스트 (임의 접근 가능해야 함)
+     * @param count 뽑을 개수 (원본보다 크면 전체를 섞어서 반환)
+     * @return 새로 만든 표본 리스트
+     */
+    public static <T> List<T> sample(List<T> source, int count) {
+        int[] indices = sampleIndices(source.size(), count);
+        List<T> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(source.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * 0 ~ n-1 중에서 중복 없이 count개의 번호를 무작위 순서로 뽑습니다. (Floyd 알고리즘, O(count))
+     * @param n 전체 개수
+     * @param count 뽑을 개수 (n보다 크면 n개)
+     * @return 뽑힌 번호 배열
+     */
+    public static int[] sampleIndices(int n, int count) {
+        Random random = ThreadLocalRandom.current();
+        int k = Math.min(Math.max(count, 0), n);
+
+        List<Integer> result = new ArrayList<>(k);
+        if (k == n) {
+            for (int i = 0; i < n; i++) {
+                result.add(i);
+            }
+        } else {
+            Set<Integer> chosen = new HashSet<>(k * 2);
+            for (int j = n - k; j < n; j++) {
+                int t = random.nextInt(j + 1);
+                int index = chosen.add(t) ? t : j;
+                chosen.add(index);
+                result.add(index);
+            }
+        }
+        Collections.shuffle(result, random);
+
+        int[] indices = new int[k];
+        for (int i = 0; i < k; i++) {
+            indices[i] = result.get(i);
+        }
+        return indices;
+    }
+
+    /**
+     * 개수를 모르는 스트림에서 count개를 균일하게 뽑는 저장소 표본(Reservoir sampling, Algorithm R)
+     * 메모리는 표본 크기만큼만 사용합니다.
+     */
+    public static class LongReservoir {
+        private final long[] reservoir;
+        private long seen = 0;
+
+        public LongReservoir(int capacity) {
+            this.reservoir = new long[Math.max(capacity, 0)];
+        }
+
+        /**
+         * 스트림의 다음 값을 제공합니다.
+         * @param value 값
+         */
+        public void offer(long value) {
+            if (seen < reservoir.length) {
+                reservoir[(int) seen] = value;
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(seen + 1);
+                if (slot < reservoir.length) {
+                    reservoir[(int) slot] = value;
+                }
+            }
+            seen++;
+        }
+
+        /**
+         * 지금까지 뽑힌 표본을 반환합니다.
+         * @return 표본 배열 (스트림이 용량보다 짧으면 그 길이만큼)
+         */
+        public long[] toArray() {
+            int size = (int) Math.min(seen, reservoir.length);
+            long[] result = new long[size];
+            System.arraycopy(reservoir, 0, result, 0, size);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.whatsyourpick.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 미리 렌더링된 썸네일 목록 (ThumbnailRenderer가 빌드 시 생성)
+ * 원본 경로와 목표 크기, 크롭 방식으로 썸네일 리소스 경로를 찾습니다.
+ *
+ * 파일 형식 (thumbnails/manifest.tsv, UTF-8, 탭 구분):
+ * <pre>
+ * # 주석
+ * 폭  높이  크롭 방식  원본 경로  썸네일 경로
+ * </pre>
+ */
+public class ThumbnailManifest {
+
+    public static final String MANIFEST_PATH = "thumbnails/manifest.tsv";
+    public static final String THUMBNAIL_ROOT = "thumbnails/";
+
+    private static volatile ThumbnailManifest classpathManifest;
+
+    private final Map<String, String> thumbnails;
+
+    private ThumbnailManifest(Map<String, String> thumbnails) {
+        this.thumbnails = thumbnails;
+    }
+
+    /**
+     * 클래스패스의 목록을 반환합니다. (처음 호출 시 한 번 읽음)
+     * 목록이 없거나 -Dwyp.image.thumbnails=false이면 빈 목록을 반환합니다.
+     */
+    public static ThumbnailManifest fromClasspath() {
+        ThumbnailManifest manifest = classpathManifest;
+        if (manifest == null) {
+            synchronized (ThumbnailManifest.class) {
+                manifest = classpathManifest;
+                if (manifest == null) {
+                    manifest = loadFromClasspath();
+                    classpathManifest = manifest;
+                }
+            }
+        }
+        return manifest;
+    }
+
+    private static ThumbnailManifest loadFromClasspath() {
+        if (!Boolean.parseBoolean(System.getProperty("wyp.image.thumbnails", "true"))) {
+            return new ThumbnailManifest(Collections.emptyMap());
+        }
+        try (InputStream in = ThumbnailManifest.class.getClassLoader().getResourceAsStream(MANIFEST_PATH)) {
+            if (in == null) {
+                return new ThumbnailManifest(Collections.emptyMap());
+            }
+            ThumbnailManifest manifest = read(in);
+            System.out.println("🖼️  미리 렌더링된 썸네일 " + manifest.size() + "개 사용");
+            return manifest;
+        } catch (IOException e) {
+            System.err.println("⚠️  썸네일 목록을 읽을 수 없어 원본 이미지를 사용합니다: " + e.getMessage());
+            return new ThumbnailManifest(Collections.emptyMap());
+        }
+    }
+
+    /**
+     * 목록 파일을 읽습니다.
+     * @param in 목록 스트림
+     * @return 썸네일 목록
+     * @throws IOException 읽기 실패 또는 형식 오류 시
+     */
+    public static ThumbnailManifest read(InputStream in) throws IOException {
+        Map<String, String> thumbnails = new HashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t");
+            if (fields.length != 5) {
+                throw new IOException("잘못된 썸네일 목록 행: " + line);
+            }
+            int width = Integer.parseInt(fields[0]);
+            int height = Integer.parseInt(fields[1]);
+            ImageLoader.CropMode cropMode = ImageLoader.CropMode.valueOf(fields[2]);
+            thumbnails.put(key(fields[3], width, height, cropMode), fields[4]);
+        }
+        return new ThumbnailManifest(thumbnails);
+    }
+
+    /**
+     * 목록의 한 행을 만듭니다.
+     */
+    static String line(String sourcePath, int width, int height, ImageLoader.CropMode cropMode, String thumbnailPath) {
+        return width + "\t" + height + "\t" + cropMode.name() + "\t" + sourcePath + "\t" + thumbnailPath;
+    }
+
+    /**
+     * 썸네일 리소스 경로를 찾습니다.
+     * @param sourcePath 원본 경로 (맨 앞의 / 없이)
+     * @param width 목표 폭
+     * @param height 목표 높이
+     * @param cropMode 크롭 방식
+     * @return 썸네일 경로, 없으면 null
+     */
+    public String find(String sourcePath, int width, int height, ImageLoader.CropMode cropMode) {
+        return thumbnails.get(key(sourcePath, width, height, cropMode));
+    }
+
+    public int size() {
+        return thumbnails.size();
+    }
+
+    static String key(String sourcePath, int width, int height, ImageLoader.CropMode cropMode) {
+        return width + "x" + height + "/" + cropMode.name() + "/" + sourcePath;
+    }
+}
@@ -0,0 +1,196 @@
+package com.whatsyourpick.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 화면에 표시되는 크기로 이미지를 미리 크롭/스케일링해 두는 빌드 도구
+ * 실행할 때마다 같은 원본을 다시 디코딩하고 줄이지 않도록, 표시 크기별 썸네일과 목록(manifest.tsv)을 만듭니다.
+ * ImageLoader는 목록에 있는 썸네일을 원본보다 먼저 사용합니다.
+ * 원본보다 새로운 썸네일이 이미 있으면 다시 만들지 않습니다.
+ *
+ * 사용법 (mvn -Pthumbnails package 에서 자동 실행):
+ *   ThumbnailRenderer [리소스 디렉토리] [출력 디렉토리]
+ *   (기본값: src/main/resources, target/classes)
+ */
+public class ThumbnailRenderer {
+
+    private static final float JPEG_QUALITY = 0.9f;
+
+    /**
+     * 썸네일을 만들 대상 (원본 범위 + 표시 크기)
+     */
+    private static final class Target {
+        final String sourcePrefix;   // 원본 경로 접두사
+        final String sourceSuffix;   // 원본 경로 접미사
+        final boolean recursive;     // 하위 디렉토리 포함 여부
+        final int width;
+        final int height;
+        final ImageLoader.CropMode cropMode;
+
+        Target(String sourcePrefix, String sourceSuffix, boolean recursive,
+               int width, int height, ImageLoader.CropMode cropMode) {
+            this.sourcePrefix = sourcePrefix;
+            this.sourceSuffix = sourceSuffix;
+            this.recursive = recursive;
+            this.width = width;
+            this.height = height;
+            this.cropMode = cropMode;
+        }
+
+        boolean matches(String sourcePath) {
+            if (!sourcePath.startsWith(sourcePrefix) || !sourcePath.endsWith(sourceSuffix)) {
+                return false;
+            }
+            return recursive || sourcePath.indexOf('/', sourcePrefix.length()) < 0;
+        }
+
+        String directory() {
+            return width + "x" + height + "-" + cropMode.name().toLowerCase();
+        }
+    }
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("images/contestants/", "", true, 500, 480, ImageLoader.CropMode.CENTER),  // 대결/결과 화면
+            new Target("images/", "_표지.png", false, 240, 230, ImageLoader.CropMode.STRETCH),    // 카테고리 카드
+            new Target("images/", "_표지.png", false, 560, 537, ImageLoader.CropMode.STRETCH)     // 토너먼트 설정 화면
+    );
+
+    private ThumbnailRenderer() {
+    }
+
+    /**
+     * 썸네일과 목록을 만듭니다.
+     * @param resourceDir 원본 리소스 디렉토리 (images/가 있는 곳)
+     * @param outputDir 출력 디렉토리 (thumbnails/가 만들어질 곳)
+     * @return 목록에 기록된 썸네일 수
+     * @throws IOException 목록 쓰기 실패 시
+     */
+    public static int render(Path resourceDir, Path outputDir) throws IOException {
+        List<String> sources;
+        try (Stream<Path> files = Files.walk(resourceDir.resolve("images"))) {
+            sources = files.filter(Files::isRegularFile)
+                    .map(path -> resourceDir.relativize(path).toString().replace('\\', '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rendered = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+
+        for (Target target : TARGETS) {
+            sources.parallelStream().filter(target::matches).forEach(source -> {
+                try {
+                    String thumbnail = renderOne(resourceDir, outputDir, source, target, rendered, skipped);
+                    lines.add(ThumbnailManifest.line(source, target.width, target.height, target.cropMode, thumbnail));
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("⚠️  썸네일 생성 실패 (원본 사용): " + source + " - " + e.getMessage());
+                }
+            });
+        }
+
+        Collections.sort(lines);
+        Path manifest = outputDir.resolve(ThumbnailManifest.MANIFEST_PATH);
+        Files.createDirectories(manifest.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(manifest, StandardCharsets.UTF_8)) {
+            writer.write("# 폭\t높이\t크롭 방식\t원본 경로\t썸네일 경로");
+            writer.newLine();
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+
+        System.out.println("✅ 썸네일 " + lines.size() + "개 (새로 생성 " + rendered.get() + ", 최신 " + skipped.get()
+                + ") → " + manifest);
+        return lines.size();
+    }
+
+    private static String renderOne(Path resourceDir, Path outputDir, String source, Target target,
+                                    AtomicInteger rendered, AtomicInteger skipped) throws IOException {
+        Path sourceFile = resourceDir.resolve(source);
+
+        // 원본에 알파 채널이 있으면 PNG, 아니면 JPEG로 저장
+        String base = ThumbnailManifest.THUMBNAIL_ROOT + target.directory() + "/" + source;
+        String jpegPath = replaceExtension(base, ".jpg");
+        String pngPath = replaceExtension(base, ".png");
+
+        for (String existing : new String[] {jpegPath, pngPath}) {
+            Path file = outputDir.resolve(existing);
+            if (Files.exists(file) && Files.getLastModifiedTime(file).compareTo(Files.getLastModifiedTime(sourceFile)) >= 0) {
+                skipped.incrementAndGet();
+                return existing;
+            }
+        }
+
+        BufferedImage image;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(sourceFile))) {
+            BufferedImage decoded = ImageLoader.decode(in, target.width, target.height, target.cropMode);
+            image = ImageScaler.scale(decoded, target.width, target.height);
+        }
+
+        boolean alpha = image.getColorModel().hasAlpha();
+        String thumbnail = alpha ? pngPath : jpegPath;
+        Path output = outputDir.resolve(thumbnail);
+        Files.createDirectories(output.getParent());
+        if (alpha) {
+            ImageIO.write(image, "png", output.toFile());
+        } else {
+            writeJpeg(image, output);
+        }
+        rendered.incrementAndGet();
+        return thumbnail;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path output) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+        // 파일 스트림은 기존 내용을 자르지 않으므로 먼저 지움
+        Files.deleteIfExists(output);
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(output.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String replaceExtension(String path, String extension) {
+        int dot = path.lastIndexOf('.');
+        int slash = path.lastIndexOf('/');
+        return (dot > slash ? path.substring(0, dot) : path) + extension;
+    }
+
+    public static void main(String[] args) {
+        try {
+            Path resourceDir = Paths.get(args.length > 0 ? args[0] : "src/main/resources");
+            Path outputDir = Paths.get(args.length > 1 ? args[1] : "target/classes");
+            render(resourceDir, outputDir);
+        } catch (Exception e) {
+            System.err.println("❌ 썸네일 생성 실패: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}